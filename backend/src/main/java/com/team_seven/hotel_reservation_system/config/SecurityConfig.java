@@ -52,7 +52,7 @@ public class SecurityConfig {
         ));
 
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -72,6 +72,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/rooms/**").permitAll() 
                         .requestMatchers("/api/hotels/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/bookings").permitAll()
+                        .requestMatchers("/api/bookings/holds", "/api/bookings/holds/**").permitAll()
                         
                         .requestMatchers(HttpMethod.POST, "/api/room-types").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/room-types/**").authenticated()
@@ -1,9 +1,27 @@
 package com.team_seven.hotel_reservation_system.controller;
 
+import com.team_seven.hotel_reservation_system.service.BookingExportService;
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
 import com.team_seven.hotel_reservation_system.service.BookingService;
+import com.team_seven.hotel_reservation_system.service.IdempotencyStore;
+import com.team_seven.hotel_reservation_system.dto.BookingExportFormat;
+import com.team_seven.hotel_reservation_system.dto.BookingHoldDto;
+import com.team_seven.hotel_reservation_system.dto.BookingListCriteria;
+import com.team_seven.hotel_reservation_system.dto.BookingListPageDto;
+import com.team_seven.hotel_reservation_system.dto.BookingSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRequestDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingResultDto;
 import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
-import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
@@ -11,26 +29,97 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 // 7.11
 @RestController
 @RequestMapping("/api/bookings")
 @CrossOrigin(origins = "*")
 public class BookingController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String HOLD_TOKEN_HEADER = "Hold-Token";
+
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private BookingHoldService bookingHoldService;
+
+    @Autowired
+    private BookingExportService bookingExportService;
+
+    @Value("${booking.hold.client-key:email}")
+    private String holdClientKey;
+
     @PostMapping
-    public ResponseEntity<Booking> create(@RequestBody GuestBookingRequestDto bookingDto) {
-        Booking newBooking = bookingService.createBooking(bookingDto);
+    public ResponseEntity<BookingSummaryDto> create(
+            @RequestBody GuestBookingRequestDto bookingDto,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            BookingSummaryDto newBooking = BookingSummaryDto.from(bookingService.createBooking(bookingDto));
+            URI location = URI.create("/api/bookings/" + newBooking.getId());
+            return ResponseEntity.created(location).body(newBooking);
+        }
+
+        IdempotencyStore.Outcome<BookingSummaryDto> outcome = idempotencyStore.execute(
+                "POST /api/bookings", idempotencyKey, bookingDto,
+                () -> BookingSummaryDto.from(bookingService.createBooking(bookingDto)));
+        BookingSummaryDto newBooking = outcome.getValue();
+        URI location = URI.create("/api/bookings/" + newBooking.getId());
+        return ResponseEntity.created(location)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(outcome.isReplayed()))
+                .body(newBooking);
+    }
+
+    @PostMapping("/group")
+    public ResponseEntity<GroupBookingResultDto> createGroup(@RequestBody GroupBookingRequestDto groupDto) {
+        GroupBookingResultDto result = bookingService.createGroupBooking(groupDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<BookingHoldDto> createHold(
+            @RequestBody GuestBookingRequestDto bookingDto,
+            @RequestParam(required = false) Integer minutes,
+            HttpServletRequest request) {
+        BookingHoldDto hold = bookingHoldService.createHold(bookingDto, minutes, holdClientKey(request, bookingDto));
+        URI location = URI.create("/api/bookings/holds/" + hold.getHoldId());
+        return ResponseEntity.created(location).body(hold);
+    }
+
+    @GetMapping("/holds/{holdId}")
+    public BookingHoldDto getHold(@PathVariable String holdId,
+                                  @RequestHeader(value = HOLD_TOKEN_HEADER, required = false) String holdToken) {
+        return bookingHoldService.getHold(holdId, holdToken);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<BookingSummaryDto> confirmHold(
+            @PathVariable String holdId,
+            @RequestHeader(value = HOLD_TOKEN_HEADER, required = false) String holdToken) {
+        BookingSummaryDto newBooking = BookingSummaryDto.from(bookingService.confirmHold(holdId, holdToken));
         URI location = URI.create("/api/bookings/" + newBooking.getId());
         return ResponseEntity.created(location).body(newBooking);
     }
 
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable String holdId,
+            @RequestHeader(value = HOLD_TOKEN_HEADER, required = false) String holdToken) {
+        bookingHoldService.release(holdId, holdToken);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping
-    public Page<Booking> getBookings(
+    public Page<BookingSummaryDto> getBookings(
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
@@ -38,14 +127,68 @@ public class BookingController {
         return bookingService.getBookings(status, pageable);
     }
 
+    @GetMapping("/page")
+    public BookingListPageDto getBookingsPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInTo,
+            @RequestParam(required = false) Long hotelId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        BookingListCriteria criteria = BookingListCriteria.builder()
+                .statuses(BookingStatus.parseAll(status))
+                .checkInFrom(checkInFrom)
+                .checkInTo(checkInTo)
+                .hotelId(hotelId)
+                .cursor(cursor)
+                .size(size)
+                .includeTotal(includeTotal)
+                .build();
+        return bookingService.getBookingsPage(criteria);
+    }
+
+    // Written straight to the response as rows arrive, so the export never sits in memory.
+    @GetMapping("/export")
+    public void export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response) throws IOException {
+        BookingExportFormat exportFormat = BookingExportFormat.parse(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"bookings-" + from + "-" + to + "." + exportFormat.getExtension() + "\"");
+        bookingExportService.export(from, to, exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/my-bookings")
-    public List<Booking> getMyBookings(@AuthenticationPrincipal UserDetails userDetails) {
+    public List<BookingSummaryDto> getMyBookings(@AuthenticationPrincipal UserDetails userDetails) {
         String userEmail = userDetails.getUsername(); 
         return bookingService.getBookingsByCurrentUser(userEmail);
     }
 
     @PatchMapping("/{id}/status")
-    public Booking updateStatus(@PathVariable Long id, @RequestParam String status) {
-        return bookingService.updateStatus(id, status);
+    public BookingSummaryDto updateStatus(@PathVariable Long id, @RequestParam String status) {
+        return BookingSummaryDto.from(bookingService.updateStatus(id, status));
+    }
+
+    @PatchMapping("/status")
+    public BulkStatusUpdateResultDto updateStatuses(@RequestBody BulkStatusUpdateRequestDto dto) {
+        return bookingService.updateStatuses(dto);
+    }
+
+    // The per-client hold cap is only as good as this key. Requests relayed by the frontend's
+    // server actions all come from one address, so by default the guest email is the client. The
+    // remote address is only the guest's own when a trusted proxy passes it in X-Forwarded-For.
+    private String holdClientKey(HttpServletRequest request, GuestBookingRequestDto bookingDto) {
+        if ("address".equalsIgnoreCase(holdClientKey)) {
+            return "address:" + request.getRemoteAddr();
+        }
+        if (bookingDto.getEmail() == null || bookingDto.getEmail().isBlank()) {
+            throw new IllegalArgumentException("A hold needs the guest's email");
+        }
+        return "email:" + bookingDto.getEmail().trim().toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,30 @@
+package com.team_seven.hotel_reservation_system.controller;
+
+import com.team_seven.hotel_reservation_system.dto.CatalogImportFormat;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportResultDto;
+import com.team_seven.hotel_reservation_system.service.CatalogImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/catalog")
+@CrossOrigin(origins = "*")
+public class CatalogController {
+
+    private final CatalogImportService catalogImportService;
+
+    public CatalogController(CatalogImportService catalogImportService) {
+        this.catalogImportService = catalogImportService;
+    }
+
+    // Read straight from the request body as rows arrive, so the upload never sits in memory.
+    @PostMapping("/import")
+    public CatalogImportResultDto importCatalog(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) throws IOException {
+        CatalogImportFormat importFormat = CatalogImportFormat.parse(format, request.getContentType());
+        return catalogImportService.importCatalog(request.getInputStream(), importFormat);
+    }
+}
@@ -0,0 +1,29 @@
+package com.team_seven.hotel_reservation_system.controller;
+
+import com.team_seven.hotel_reservation_system.dto.DashboardSummaryDto;
+import com.team_seven.hotel_reservation_system.service.DashboardService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    public DashboardSummaryDto getSummary(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long hotelId
+    ) {
+        return dashboardService.getSummary(from, to, hotelId);
+    }
+}
@@ -1,31 +1,32 @@
 package com.team_seven.hotel_reservation_system.controller;
 
 import com.team_seven.hotel_reservation_system.dto.HotelDto;
+import com.team_seven.hotel_reservation_system.service.CatalogSnapshot;
 import com.team_seven.hotel_reservation_system.service.HotelService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/hotels")
 @CrossOrigin(origins = "*")
 public class HotelController {
     
     private final HotelService hotelService;
+    private final CatalogSnapshot catalogSnapshot;
 
-    public HotelController(HotelService hotelService){
+    public HotelController(HotelService hotelService, CatalogSnapshot catalogSnapshot){
         this.hotelService = hotelService;
+        this.catalogSnapshot = catalogSnapshot;
     }
 
     @GetMapping
-    public List<HotelDto> getAllHotels() {
-        return hotelService.getAll();
+    public ResponseEntity<byte[]> getAllHotels() {
+        return catalogSnapshot.hotels().toResponse();
     }
 
     @GetMapping("/top-rated")
-    public List<HotelDto> getTopRatedHotel() {
-        return hotelService.getTopRated();
+    public ResponseEntity<byte[]> getTopRatedHotel() {
+        return catalogSnapshot.topRatedHotels().toResponse();
     }
     
     @GetMapping("/{id}")
@@ -0,0 +1,65 @@
+package com.team_seven.hotel_reservation_system.controller;
+
+import com.team_seven.hotel_reservation_system.dto.CacheRegionStatsDto;
+import com.team_seven.hotel_reservation_system.dto.CacheStatsDto;
+import com.team_seven.hotel_reservation_system.dto.CustomerResolutionStatsDto;
+import com.team_seven.hotel_reservation_system.service.CustomerResolver;
+import com.team_seven.hotel_reservation_system.service.IdempotencyStore;
+import com.team_seven.hotel_reservation_system.service.RoomSearchCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "*")
+public class MetricsController {
+
+    private final RoomSearchCache roomSearchCache;
+    private final IdempotencyStore idempotencyStore;
+    private final CustomerResolver customerResolver;
+    private final Statistics hibernateStatistics;
+
+    public MetricsController(RoomSearchCache roomSearchCache, IdempotencyStore idempotencyStore,
+                             CustomerResolver customerResolver, EntityManagerFactory entityManagerFactory) {
+        this.roomSearchCache = roomSearchCache;
+        this.idempotencyStore = idempotencyStore;
+        this.customerResolver = customerResolver;
+        this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @GetMapping("/search-cache")
+    public CacheStatsDto getSearchCacheStats() {
+        return roomSearchCache.getStats();
+    }
+
+    @GetMapping("/idempotency")
+    public CacheStatsDto getIdempotencyStats() {
+        return idempotencyStore.getStats();
+    }
+
+    @GetMapping("/customer-resolution")
+    public CustomerResolutionStatsDto getCustomerResolutionStats() {
+        return customerResolver.getStats();
+    }
+
+    @GetMapping("/second-level-cache")
+    public List<CacheRegionStatsDto> getSecondLevelCacheStats() {
+        List<CacheRegionStatsDto> regions = new ArrayList<>();
+        String[] names = hibernateStatistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(names);
+        for (String name : names) {
+            CacheRegionStatistics region = hibernateStatistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.add(CacheRegionStatsDto.from(name, region));
+            }
+        }
+        return regions;
+    }
+}
@@ -1,13 +1,22 @@
 package com.team_seven.hotel_reservation_system.controller;
 
+import com.team_seven.hotel_reservation_system.dto.FlexibleDateOptionDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchCriteria;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchPageDto;
 import com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchSort;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeCalendarDto;
 import com.team_seven.hotel_reservation_system.service.PublicRoomService;
+import com.team_seven.hotel_reservation_system.service.RoomTypeInventoryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,9 @@ public class PublicRoomController {
     @Autowired
     private PublicRoomService publicRoomService;
 
+    @Autowired
+    private RoomTypeInventoryService roomTypeInventoryService;
+
     @GetMapping("/search")
     public ResponseEntity<List<RoomSearchResultDto>> searchRooms(
         @RequestParam String city,
@@ -30,4 +42,68 @@ public class PublicRoomController {
 
         return ResponseEntity.ok(rooms);
     }
+
+    @GetMapping("/search/room-types")
+    public ResponseEntity<List<RoomTypeAvailabilityDto>> searchRoomTypes(
+        @RequestParam String city,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+        @RequestParam int guestCapacity
+    ) {
+        List<RoomTypeAvailabilityDto> roomTypes = publicRoomService.findAvailableRoomTypes(
+            city, checkInDate, checkOutDate, guestCapacity
+        );
+
+        return ResponseEntity.ok(roomTypes);
+    }
+
+    @GetMapping("/search/page")
+    public ResponseEntity<RoomSearchPageDto> searchRoomsPage(
+        @RequestParam String city,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+        @RequestParam int guestCapacity,
+        @RequestParam(required = false) BigDecimal minPrice,
+        @RequestParam(required = false) BigDecimal maxPrice,
+        @RequestParam(defaultValue = "PRICE_ASC") RoomSearchSort sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        RoomSearchCriteria criteria = RoomSearchCriteria.builder()
+            .city(city)
+            .checkInDate(checkInDate)
+            .checkOutDate(checkOutDate)
+            .guestCapacity(guestCapacity)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .sort(sort)
+            .cursor(cursor)
+            .size(size)
+            .build();
+
+        return ResponseEntity.ok(publicRoomService.findAvailableRoomsPage(criteria));
+    }
+
+    @GetMapping("/search/flexible")
+    public ResponseEntity<List<FlexibleDateOptionDto>> searchFlexibleDates(
+        @RequestParam String city,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate earliestCheckIn,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate latestCheckIn,
+        @RequestParam int nights,
+        @RequestParam int guestCapacity
+    ) {
+        List<FlexibleDateOptionDto> options = publicRoomService.findFlexibleDates(
+            city, earliestCheckIn, latestCheckIn, nights, guestCapacity
+        );
+
+        return ResponseEntity.ok(options);
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<RoomTypeCalendarDto> getAvailabilityCalendar(
+        @RequestParam Long roomTypeId,
+        @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        return ResponseEntity.ok(roomTypeInventoryService.getMonthCalendar(roomTypeId, month));
+    }
 }
@@ -0,0 +1,29 @@
+package com.team_seven.hotel_reservation_system.controller;
+
+import com.team_seven.hotel_reservation_system.dto.RevenueReportDto;
+import com.team_seven.hotel_reservation_system.service.RevenueReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+public class ReportController {
+
+    private final RevenueReportService revenueReportService;
+
+    public ReportController(RevenueReportService revenueReportService) {
+        this.revenueReportService = revenueReportService;
+    }
+
+    @GetMapping("/revenue")
+    public RevenueReportDto getRevenueReport(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Long hotelId
+    ) {
+        return revenueReportService.getRevenueReport(from, to, hotelId);
+    }
+}
@@ -1,11 +1,15 @@
 package com.team_seven.hotel_reservation_system.controller;
 
 import com.team_seven.hotel_reservation_system.dto.RoomDto;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
 import com.team_seven.hotel_reservation_system.service.RoomService;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,14 +30,31 @@ public class RoomController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<RoomDto> getById(@PathVariable Long id) {
-        RoomDto dto = roomService.getById(id);
+    public ResponseEntity<RoomDto> getById(
+        @PathVariable Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        RoomDto dto = roomService.getById(id, date);
         return dto == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(dto);
     }
 
     @GetMapping
-    public List<RoomDto> getAll() {
-        return roomService.getAll();
+    public List<RoomDto> getAll(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        return roomService.getAll(date);
+    }
+
+    @GetMapping("/page")
+    public Page<RoomDto> getPage(
+        @RequestParam(required = false) Long hotelId,
+        @RequestParam(required = false) Long roomTypeId,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return roomService.getPage(hotelId, roomTypeId, RoomStatus.parse(status), date, page, size);
     }
 
     @PutMapping("/{id}")
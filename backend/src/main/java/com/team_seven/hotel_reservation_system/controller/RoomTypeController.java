@@ -1,8 +1,12 @@
 package com.team_seven.hotel_reservation_system.controller;
 
 import com.team_seven.hotel_reservation_system.dto.RoomTypeDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeOptionDto;
+import com.team_seven.hotel_reservation_system.service.CatalogSnapshot;
 import com.team_seven.hotel_reservation_system.service.RoomTypeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -12,15 +16,36 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class RoomTypeController {
     private final RoomTypeService roomTypeService;
+    private final CatalogSnapshot catalogSnapshot;
 
-    public RoomTypeController(RoomTypeService roomTypeService){
+    public RoomTypeController(RoomTypeService roomTypeService, CatalogSnapshot catalogSnapshot){
         this.roomTypeService = roomTypeService;
+        this.catalogSnapshot = catalogSnapshot;
     }
 
+    // The unfiltered list comes from the catalog snapshot; a hotel-scoped one is read from the database.
     @GetMapping
-    public List<RoomTypeDto> getAllRoomTypes() {
-        return roomTypeService.getAll();
+    public ResponseEntity<?> getAllRoomTypes(@RequestParam(required = false) Long hotelId) {
+        if (hotelId == null) {
+            return catalogSnapshot.roomTypes().toResponse();
+        }
+        return ResponseEntity.ok(roomTypeService.getAll(hotelId));
     }
+
+    @GetMapping("/page")
+    public Page<RoomTypeDto> getRoomTypePage(
+        @RequestParam(required = false) Long hotelId,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return roomTypeService.getPage(hotelId, page, size);
+    }
+
+    @GetMapping("/options")
+    public List<RoomTypeOptionDto> getRoomTypeOptions(@RequestParam(required = false) Long hotelId) {
+        return roomTypeService.getOptions(hotelId);
+    }
+
     @GetMapping("/{id}")
     public RoomTypeDto getRoomTypeById(@PathVariable Long id) {
         return roomTypeService.getById(id);
@@ -0,0 +1,27 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingExportRowDto {
+    private Long bookingId;
+    private Timestamp createdAt;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int numberOfGuests;
+    private BigDecimal totalPrice;
+    private BookingStatus status;
+    private String customerEmail;
+    private String roomNumber;
+    private String roomTypeName;
+    private String hotelName;
+}
@@ -0,0 +1,25 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingHoldDto {
+    private String holdId;
+    // Only returned when the hold is created; every later call on the hold must send it back.
+    private String holdToken;
+    private Long roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BigDecimal totalPrice;
+    private Instant expiresAt;
+}
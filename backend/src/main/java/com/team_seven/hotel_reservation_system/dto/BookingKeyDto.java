@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingKeyDto {
+    private Long bookingId;
+    private Timestamp createdAt;
+}
@@ -0,0 +1,24 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingListCriteria {
+    private Set<BookingStatus> statuses;
+    private LocalDate checkInFrom;
+    private LocalDate checkInTo;
+    private Long hotelId;
+    private String cursor;
+    private int size;
+    private boolean includeTotal;
+}
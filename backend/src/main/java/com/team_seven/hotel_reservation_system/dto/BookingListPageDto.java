@@ -0,0 +1,20 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingListPageDto {
+    private List<BookingSummaryDto> items;
+    private String nextCursor;
+    private boolean hasMore;
+    // Only set when the caller asked for it; may be up to booking.list.count-ttl old.
+    private Long total;
+}
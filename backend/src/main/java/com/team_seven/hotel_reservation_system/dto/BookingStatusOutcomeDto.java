@@ -0,0 +1,19 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a bulk status update did to one booking: UPDATED, UNCHANGED, REJECTED or NOT_FOUND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStatusOutcomeDto {
+    private Long bookingId;
+    private BookingStatus previousStatus;
+    private String outcome;
+    private String message;
+}
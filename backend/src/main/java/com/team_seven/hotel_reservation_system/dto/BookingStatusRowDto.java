@@ -0,0 +1,21 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingStatusRowDto {
+    private Long bookingId;
+    private Long roomId;
+    private Long roomTypeId;
+    private String city;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BookingStatus status;
+}
@@ -0,0 +1,42 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * The booking columns the booking tables show. List queries select straight into this class, so
+ * no entity, proxy or related row is loaded to render a row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSummaryDto {
+    private Long id;
+    private Long roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int numberOfGuests;
+    private BigDecimal totalPrice;
+    private BookingStatus status;
+    private Timestamp createdAt;
+
+    // Reads only the room's id, which a lazy proxy answers without loading the room.
+    public static BookingSummaryDto from(Booking booking) {
+        return new BookingSummaryDto(
+                booking.getId(),
+                booking.getRoom() != null ? booking.getRoom().getId() : null,
+                booking.getCheckInDate(),
+                booking.getCheckOutDate(),
+                booking.getNumberOfGuests(),
+                booking.getTotalPrice(),
+                booking.getStatus(),
+                booking.getCreatedAt());
+    }
+}
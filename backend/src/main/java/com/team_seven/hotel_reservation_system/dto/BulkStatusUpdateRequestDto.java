@@ -0,0 +1,25 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Target status plus either explicit booking ids or a filter: every booking in
+ * {@code currentStatus} checking out on {@code checkOutDate}, optionally limited to one hotel.
+ * With ids, {@code currentStatus} is optional and only bookings still in it are changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequestDto {
+    private BookingStatus status;
+    private List<Long> bookingIds;
+    private BookingStatus currentStatus;
+    private LocalDate checkOutDate;
+    private Long hotelId;
+}
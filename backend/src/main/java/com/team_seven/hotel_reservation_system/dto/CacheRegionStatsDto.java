@@ -0,0 +1,36 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStatsDto {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    // Null when the cache provider does not report region sizes (JCache does not).
+    private Long elementsInMemory;
+    private double hitRatio;
+
+    public static CacheRegionStatsDto from(String region, CacheRegionStatistics statistics) {
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        long lookups = hits + misses;
+        long elements = statistics.getElementCountInMemory();
+        return CacheRegionStatsDto.builder()
+                .region(region)
+                .hits(hits)
+                .misses(misses)
+                .puts(statistics.getPutCount())
+                .elementsInMemory(elements == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? null : elements)
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A catalog import row that was skipped: the line it started on, its type and ref as given, and why.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportErrorDto {
+    private long line;
+    private String type;
+    private String ref;
+    private String message;
+}
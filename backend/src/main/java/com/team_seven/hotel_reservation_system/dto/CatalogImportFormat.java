@@ -0,0 +1,33 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+public enum CatalogImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    CatalogImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * An explicit {@code format} wins; otherwise a {@code text/csv} request body is read as CSV and
+     * anything else as NDJSON.
+     */
+    public static CatalogImportFormat parse(String value, String requestContentType) {
+        if (value == null || value.isBlank()) {
+            return requestContentType != null && requestContentType.toLowerCase().startsWith(CSV.contentType)
+                    ? CSV
+                    : NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown import format: " + value);
+        }
+    }
+}
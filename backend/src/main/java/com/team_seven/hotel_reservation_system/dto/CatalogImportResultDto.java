@@ -0,0 +1,26 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogImportResultDto {
+    private long rows;
+    private long hotelsCreated;
+    private long roomTypesCreated;
+    private long roomsCreated;
+    private long rejected;
+    private int batches;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<CatalogImportErrorDto> errors;
+    // True when more rows were rejected than are listed in errors.
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,17 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerResolutionStatsDto {
+    private CacheStatsDto cache;
+    private long upserts;
+    private double averageUpsertMillis;
+    private double maxUpsertMillis;
+}
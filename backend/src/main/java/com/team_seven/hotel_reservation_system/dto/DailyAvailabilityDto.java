@@ -0,0 +1,16 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyAvailabilityDto {
+    private LocalDate date;
+    private long availableRooms;
+    private boolean bookable;
+}
@@ -0,0 +1,24 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSummaryDto {
+    private LocalDate from;
+    private LocalDate to;
+    private long occupiedRoomNights;
+    private long availableRoomNights;
+    private double occupancyRate;
+    private BigDecimal revenue;
+    private List<HotelDayStatsDto> days;
+}
@@ -0,0 +1,21 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FlexibleDateOptionDto {
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private BigDecimal lowestPricePerNight;
+    private List<RoomTypeAvailabilityDto> roomTypes;
+}
@@ -0,0 +1,22 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingRequestDto {
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private List<GroupBookingRoomDto> rooms;
+}
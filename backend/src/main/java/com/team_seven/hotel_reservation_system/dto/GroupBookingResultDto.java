@@ -0,0 +1,22 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GroupBookingResultDto {
+    private Long customerId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private List<Long> bookingIds;
+    private BigDecimal totalPrice;
+}
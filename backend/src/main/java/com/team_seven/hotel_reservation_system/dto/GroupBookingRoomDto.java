@@ -0,0 +1,13 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingRoomDto {
+    private Long roomId;
+    private int numberOfGuests;
+}
@@ -0,0 +1,25 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class HotelDayStatsDto {
+    private Long hotelId;
+    private LocalDate date;
+    private long totalRooms;
+    private long occupiedRooms;
+    private double occupancyRate;
+    private BigDecimal revenue;
+    private Map<BookingStatus, Long> roomNightsByStatus;
+}
@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexedRoomDto {
+    private Long roomId;
+    private Long roomTypeId;
+    private RoomStatus status;
+}
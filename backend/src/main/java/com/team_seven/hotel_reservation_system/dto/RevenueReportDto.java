@@ -0,0 +1,21 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevenueReportDto {
+    private LocalDate from;
+    private LocalDate to;
+    private int partitions;
+    private List<RevenueReportRowDto> hotels;
+    private List<RevenueReportRowDto> roomTypes;
+}
@@ -0,0 +1,26 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevenueReportRowDto {
+    private Long hotelId;
+    private String hotelName;
+    private Long roomTypeId;
+    private String roomTypeName;
+    private long rooms;
+    private long availableRoomNights;
+    private long soldRoomNights;
+    private double occupancyRate;
+    private BigDecimal revenue;
+    private BigDecimal adr;
+    private BigDecimal revpar;
+}
@@ -1,5 +1,7 @@
 package com.team_seven.hotel_reservation_system.dto;
 
+import com.team_seven.hotel_reservation_system.models.RoomOccupancy;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,7 +20,17 @@ public class RoomDto {
     private String imageUrl;
     private String description;
     private BigDecimal pricePerNight;
-    private String status;
+    private RoomStatus status;
     private Integer capacity;
     private String hotelName;
+    // Read-only, derived from bookings for the requested date.
+    private RoomOccupancy occupancy;
+
+    // Used by the JPQL constructor expression in RoomRepository, which has no occupancy to select.
+    public RoomDto(Long id, String roomNumber, Long roomTypeId, String roomTypeName, String imageUrl,
+                   String description, BigDecimal pricePerNight, RoomStatus status, Integer capacity,
+                   String hotelName) {
+        this(id, roomNumber, roomTypeId, roomTypeName, imageUrl, description, pricePerNight, status,
+                capacity, hotelName, null);
+    }
 }
@@ -0,0 +1,25 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomSearchCriteria {
+    private String city;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int guestCapacity;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private RoomSearchSort sort;
+    private String cursor;
+    private int size;
+}
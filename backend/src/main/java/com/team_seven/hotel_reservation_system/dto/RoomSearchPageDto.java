@@ -0,0 +1,18 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomSearchPageDto {
+    private List<RoomSearchResultDto> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,6 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+public enum RoomSearchSort {
+    PRICE_ASC,
+    PRICE_DESC
+}
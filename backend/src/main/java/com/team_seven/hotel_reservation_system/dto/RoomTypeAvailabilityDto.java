@@ -0,0 +1,28 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeAvailabilityDto {
+    private Long hotelId;
+    private String hotelName;
+    private String city;
+    private Long roomTypeId;
+    private String roomType;
+    private String imageUrl;
+    private BigDecimal pricePerNight;
+    private Integer capacity;
+    private Long availableRooms;
+    private Long representativeRoomId;
+
+    public RoomTypeAvailabilityDto(Long hotelId, String hotelName, String city, Long roomTypeId, String roomType,
+                                   String imageUrl, BigDecimal pricePerNight, Integer capacity) {
+        this(hotelId, hotelName, city, roomTypeId, roomType, imageUrl, pricePerNight, capacity, 0L, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RoomTypeCalendarDto {
+    private Long roomTypeId;
+    private YearMonth month;
+    private long totalRooms;
+    private List<DailyAvailabilityDto> days;
+}
@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeOptionDto {
+    private Long id;
+    private String name;
+    private Long hotelId;
+    private String hotelName;
+}
@@ -0,0 +1,16 @@
+package com.team_seven.hotel_reservation_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeRoomCountDto {
+    private Long hotelId;
+    private String hotelName;
+    private Long roomTypeId;
+    private String roomTypeName;
+    private long rooms;
+}
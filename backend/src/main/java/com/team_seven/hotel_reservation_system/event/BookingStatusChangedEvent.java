@@ -0,0 +1,26 @@
+package com.team_seven.hotel_reservation_system.event;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Published by the booking service whenever a booking is created or moves to a new status.
+ * A newly created booking has a {@code null} previous status.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BookingStatusChangedEvent {
+    private final Long bookingId;
+    private final Long roomId;
+    private final Long roomTypeId;
+    private final String city;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final BookingStatus previousStatus;
+    private final BookingStatus status;
+}
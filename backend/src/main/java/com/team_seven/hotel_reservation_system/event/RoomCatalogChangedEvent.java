@@ -0,0 +1,34 @@
+package com.team_seven.hotel_reservation_system.event;
+
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when a room, room type or hotel in {@code city} changes in a way that can affect
+ * search results for any date, e.g. a room status change or a new price.
+ *
+ * When the change concerns a single room, {@code roomId} is set together with the room type and
+ * status it had before the change and its current room type and status. A new room has a
+ * {@code null} previous room type and status, and a deleted room has a {@code null} room type.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RoomCatalogChangedEvent {
+    private final String city;
+    private final Long roomId;
+    private final Long previousRoomTypeId;
+    private final Long roomTypeId;
+    private final RoomStatus previousRoomStatus;
+    private final RoomStatus roomStatus;
+
+    public RoomCatalogChangedEvent(String city) {
+        this(city, null, null, null, null, null);
+    }
+
+    public boolean isRoomChange() {
+        return roomId != null;
+    }
+}
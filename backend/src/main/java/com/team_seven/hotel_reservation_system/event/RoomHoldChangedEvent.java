@@ -0,0 +1,23 @@
+package com.team_seven.hotel_reservation_system.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Published when a checkout hold starts blocking a room ({@code active}) or stops blocking it
+ * because it expired, was released or was turned into a booking.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RoomHoldChangedEvent {
+    private final long holdKey;
+    private final Long roomId;
+    private final String city;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final boolean active;
+}
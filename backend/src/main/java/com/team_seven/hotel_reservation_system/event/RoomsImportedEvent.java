@@ -0,0 +1,17 @@
+package com.team_seven.hotel_reservation_system.event;
+
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published once per catalog import for all the rooms it created, in place of one
+ * {@link RoomCatalogChangedEvent} per room.
+ */
+@Getter
+@AllArgsConstructor
+public class RoomsImportedEvent {
+    private final List<IndexedRoomDto> rooms;
+}
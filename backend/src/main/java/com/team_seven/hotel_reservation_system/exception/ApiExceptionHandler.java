@@ -0,0 +1,22 @@
+package com.team_seven.hotel_reservation_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Services reject bad client input (dates out of order, a malformed cursor, an unknown import
+ * column, ...) with {@link IllegalArgumentException}; this turns it into a 400 instead of a 500.
+ *
+ * The body is written here rather than through the error page, so anonymous callers of public
+ * endpoints get it too.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a hold is unknown, has expired or was already confirmed.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class BookingHoldNotFoundException extends RuntimeException {
+
+    public BookingHoldNotFoundException(String holdId) {
+        super("Hold not found or expired: " + holdId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a duplicate request gives up waiting for the first request with the same key.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String key) {
+        super("A request with this idempotency key is still being processed: " + key);
+    }
+}
@@ -0,0 +1,16 @@
+package com.team_seven.hotel_reservation_system.exception;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a booking is asked to move to a status its current status does not lead to.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(Long bookingId, BookingStatus from, BookingStatus to) {
+        super("Booking " + bookingId + " cannot move from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,15 @@
+package com.team_seven.hotel_reservation_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a new hold would go over the cap for its client, its room or the whole instance.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyHoldsException extends RuntimeException {
+
+    public TooManyHoldsException(String message) {
+        super(message);
+    }
+}
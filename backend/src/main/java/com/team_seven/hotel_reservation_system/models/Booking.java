@@ -11,7 +11,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_room_dates", columnList = "room_id, check_in_date, check_out_date"),
+    @Index(name = "idx_bookings_status_id", columnList = "status, id"),
+    @Index(name = "idx_bookings_status_check_in", columnList = "status, check_in_date"),
+    @Index(name = "idx_bookings_created_id", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -48,7 +53,8 @@ public class Booking {
     @Column(name = "total_price")
     private BigDecimal totalPrice;
 
-    private String status;
+    @Column(nullable = false)
+    private BookingStatus status;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
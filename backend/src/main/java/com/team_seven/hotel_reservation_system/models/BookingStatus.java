@@ -0,0 +1,106 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lifecycle of a booking, stored as a small integer code (see {@link BookingStatusConverter}).
+ *
+ * Codes are part of the schema and must never be reused or renumbered. Allowed moves:
+ * PENDING to CONFIRMED or CANCELLED; CONFIRMED to CHECKED_IN, CANCELLED or NO_SHOW; CHECKED_IN to
+ * CHECKED_OUT; CHECKED_OUT to COMPLETED; CANCELLED and NO_SHOW back to CONFIRMED.
+ */
+public enum BookingStatus {
+    PENDING(1),
+    CONFIRMED(2),
+    CHECKED_IN(3),
+    CHECKED_OUT(4),
+    CANCELLED(5),
+    NO_SHOW(6),
+    COMPLETED(7);
+
+    /** Statuses that keep the booked room taken for the stay. */
+    public static final Set<BookingStatus> BLOCKING = Collections.unmodifiableSet(EnumSet.of(CONFIRMED, CHECKED_IN));
+
+    private final short code;
+    private Set<BookingStatus> next;
+
+    static {
+        PENDING.next = EnumSet.of(CONFIRMED, CANCELLED);
+        CONFIRMED.next = EnumSet.of(CHECKED_IN, CANCELLED, NO_SHOW);
+        CHECKED_IN.next = EnumSet.of(CHECKED_OUT);
+        CHECKED_OUT.next = EnumSet.of(COMPLETED);
+        CANCELLED.next = EnumSet.of(CONFIRMED);
+        NO_SHOW.next = EnumSet.of(CONFIRMED);
+        COMPLETED.next = EnumSet.noneOf(BookingStatus.class);
+    }
+
+    BookingStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public boolean isBlocking() {
+        return BLOCKING.contains(this);
+    }
+
+    public boolean canMoveTo(BookingStatus target) {
+        return next.contains(target);
+    }
+
+    /**
+     * Stored codes of the given statuses, for native queries that compare the raw column.
+     */
+    public static List<Short> codesOf(Collection<BookingStatus> statuses) {
+        return statuses.stream().map(BookingStatus::getCode).toList();
+    }
+
+    public static BookingStatus fromCode(short code) {
+        for (BookingStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown booking status code: " + code);
+    }
+
+    /**
+     * Case-insensitive lookup by name, used for request parameters and JSON bodies.
+     */
+    @JsonCreator
+    public static BookingStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown booking status: " + value);
+        }
+    }
+
+    /**
+     * Parses a comma-separated list such as "confirmed,CHECKED_IN"; blank input gives an empty set.
+     */
+    public static Set<BookingStatus> parseAll(String values) {
+        Set<BookingStatus> statuses = EnumSet.noneOf(BookingStatus.class);
+        if (values == null || values.isBlank()) {
+            return statuses;
+        }
+        for (String value : values.split(",")) {
+            BookingStatus status = parse(value);
+            if (status != null) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
+}
@@ -2,6 +2,8 @@ package com.team_seven.hotel_reservation_system.models;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -37,7 +39,9 @@ public class Customer {
     @EqualsAndHashCode.Exclude
     private Set<Booking> bookings;
 
-    @ManyToMany(fetch = FetchType.EAGER) 
+    // Cached as role ids per customer; the roles themselves come from the Role cache.
+    @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customer-roles")
     @JoinTable(
         name = "customer_roles", 
         joinColumns = @JoinColumn(name = "customer_id"),
@@ -0,0 +1,57 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Booked room nights and their revenue for one hotel, night and booking status.
+ *
+ * Each booking counts once on every night of its stay under its current status, with its total
+ * price spread evenly over those nights. Rows are sparse: a missing row means zero.
+ */
+@Entity
+@Table(name = "hotel_daily_stats")
+@IdClass(HotelDailyStats.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelDailyStats {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    @Id
+    @Column(name = "stay_date")
+    private LocalDate stayDate;
+
+    // Attribute converters do not apply to id attributes, so the status code is mapped as is.
+    @Id
+    @Column(name = "status")
+    private short statusCode;
+
+    @Column(name = "room_nights", nullable = false)
+    private Integer roomNights;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long hotelId;
+        private LocalDate stayDate;
+        private short statusCode;
+    }
+
+    public BookingStatus getStatus() {
+        return BookingStatus.fromCode(statusCode);
+    }
+}
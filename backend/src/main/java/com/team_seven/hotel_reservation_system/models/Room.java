@@ -16,7 +16,9 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+    @Index(name = "idx_rooms_room_type", columnList = "room_type_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -43,6 +45,6 @@ public class Room {
     @Column(length = 20, nullable = false)
     private String roomNumber;
     
-    @Column(length = 20, nullable = false)
-    private String status;
+    @Column(nullable = false)
+    private RoomStatus status;
 }
@@ -0,0 +1,20 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import java.util.Collection;
+
+/**
+ * Date-based occupancy of a room, derived from its bookings and never stored.
+ * A checked-in guest wins over a confirmed booking covering the same night.
+ */
+public enum RoomOccupancy {
+    VACANT,
+    RESERVED,
+    OCCUPIED;
+
+    public static RoomOccupancy of(Collection<BookingStatus> blockingStatuses) {
+        if (blockingStatuses.contains(BookingStatus.CHECKED_IN)) {
+            return OCCUPIED;
+        }
+        return blockingStatuses.isEmpty() ? VACANT : RESERVED;
+    }
+}
@@ -0,0 +1,59 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Operational state of a room, stored as a small integer code (see {@link RoomStatusConverter}).
+ * Only AVAILABLE rooms show up in search. Whether a room is booked or occupied on a date comes from
+ * its bookings (see {@link RoomOccupancy}), so booking changes never write this column.
+ * Codes must never be reused or renumbered.
+ */
+public enum RoomStatus {
+    AVAILABLE(1),
+    MAINTENANCE(4);
+
+    // 2 (BOOKED) and 3 (OCCUPIED) were written by the booking flow; both meant "in service".
+    private static final short RETIRED_BOOKED = 2;
+    private static final short RETIRED_OCCUPIED = 3;
+
+    private final short code;
+
+    RoomStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public boolean isSearchable() {
+        return this == AVAILABLE;
+    }
+
+    public static RoomStatus fromCode(short code) {
+        if (code == RETIRED_BOOKED || code == RETIRED_OCCUPIED) {
+            return AVAILABLE;
+        }
+        for (RoomStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown room status code: " + code);
+    }
+
+    /**
+     * Case-insensitive lookup by name; the admin UI sends values like "Available".
+     */
+    @JsonCreator
+    public static RoomStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown room status: " + value);
+        }
+    }
+}
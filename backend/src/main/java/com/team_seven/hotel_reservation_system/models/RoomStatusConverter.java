@@ -0,0 +1,18 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class RoomStatusConverter implements AttributeConverter<RoomStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(RoomStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public RoomStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : RoomStatus.fromCode(code);
+    }
+}
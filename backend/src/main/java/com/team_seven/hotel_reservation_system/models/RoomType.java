@@ -1,6 +1,8 @@
 package com.team_seven.hotel_reservation_system.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +17,11 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "room_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room-types")
+@Table(name = "room_types", indexes = {
+    @Index(name = "idx_room_types_hotel_price", columnList = "hotel_id, price_per_night")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -47,7 +53,7 @@ public class RoomType {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
-    @Column(precision = 10, scale = 2, nullable = false)
+    @Column(name = "price_per_night", precision = 10, scale = 2, nullable = false)
     private BigDecimal pricePerNight;
 
     @Column(nullable = false)
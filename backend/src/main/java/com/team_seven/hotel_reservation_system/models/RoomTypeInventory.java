@@ -0,0 +1,43 @@
+package com.team_seven.hotel_reservation_system.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of rooms of a room type that are still free on one night.
+ *
+ * Rows are sparse: a night only gets a row once a booking blocks a room of the type on it, so a
+ * missing row means every room of the type is free.
+ */
+@Entity
+@Table(name = "room_type_inventory")
+@IdClass(RoomTypeInventory.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomTypeInventory {
+
+    @Id
+    @Column(name = "room_type_id")
+    private Long roomTypeId;
+
+    @Id
+    @Column(name = "stay_date")
+    private LocalDate stayDate;
+
+    @Column(name = "available_rooms", nullable = false)
+    private Integer availableRooms;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long roomTypeId;
+        private LocalDate stayDate;
+    }
+}
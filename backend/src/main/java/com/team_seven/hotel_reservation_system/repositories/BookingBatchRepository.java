@@ -0,0 +1,119 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.dto.BookingStatusRowDto;
+import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based booking writes that would otherwise cost one round trip per row.
+ *
+ * Inserts go out as one JDBC batch. Ids are taken from the {@code bookings} sequence up front in a
+ * single query, so the batch can bind them directly and callers know every id without reading rows
+ * back. Bulk status changes lock and read the affected bookings with one query.
+ */
+@Repository
+public class BookingBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO bookings (id, customer_id, room_id, check_in_date, check_out_date,
+                              number_of_guests, total_price, status, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String STATUS_ROWS_SQL = """
+        SELECT b.id, b.room_id, r.room_type_id, h.city, b.check_in_date, b.check_out_date, b.status
+        FROM bookings b
+        JOIN rooms r ON r.id = b.room_id
+        JOIN room_types rt ON rt.id = r.room_type_id
+        LEFT JOIN hotels h ON h.id = rt.hotel_id
+        """;
+
+    // Rows are locked in id order so two bulk updates over overlapping sets cannot deadlock.
+    private static final String LOCK_SUFFIX = " ORDER BY b.id FOR UPDATE OF b";
+
+    private static final RowMapper<BookingStatusRowDto> STATUS_ROW_MAPPER = (rs, rowNum) -> new BookingStatusRowDto(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getLong(3),
+            rs.getString(4),
+            rs.getObject(5, LocalDate.class),
+            rs.getObject(6, LocalDate.class),
+            BookingStatus.fromCode(rs.getShort(7)));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public BookingBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public List<Long> allocateIds(int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval('bookings_id_seq') FROM generate_series(1, ?)", Long.class, count);
+    }
+
+    /**
+     * Assigns ids to the given bookings and inserts them. The bookings only need their customer
+     * and room ids set, not loaded entities.
+     */
+    public void insertAll(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        List<Long> ids = allocateIds(bookings.size());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < bookings.size(); i++) {
+            bookings.get(i).setId(ids.get(i));
+            bookings.get(i).setCreatedAt(now);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, bookings, bookings.size(), (ps, booking) -> {
+            ps.setLong(1, booking.getId());
+            ps.setLong(2, booking.getCustomer().getId());
+            ps.setLong(3, booking.getRoom().getId());
+            ps.setDate(4, Date.valueOf(booking.getCheckInDate()));
+            ps.setDate(5, Date.valueOf(booking.getCheckOutDate()));
+            ps.setInt(6, booking.getNumberOfGuests());
+            ps.setBigDecimal(7, booking.getTotalPrice());
+            ps.setShort(8, booking.getStatus().getCode());
+            ps.setTimestamp(9, booking.getCreatedAt());
+        });
+    }
+
+    /**
+     * Locks the given bookings for update and returns what a status change needs to know about
+     * them. Ids that do not exist are simply missing from the result.
+     */
+    public List<BookingStatusRowDto> lockStatusRows(Collection<Long> bookingIds) {
+        return namedJdbcTemplate.query(STATUS_ROWS_SQL + "WHERE b.id IN (:ids)" + LOCK_SUFFIX,
+                new MapSqlParameterSource("ids", bookingIds), STATUS_ROW_MAPPER);
+    }
+
+    /**
+     * Locks every booking in {@code status} that checks out on {@code checkOutDate}, in one hotel
+     * when {@code hotelId} is given.
+     */
+    public List<BookingStatusRowDto> lockStatusRows(BookingStatus status, LocalDate checkOutDate, Long hotelId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", status.getCode())
+                .addValue("checkOutDate", checkOutDate);
+        String sql = STATUS_ROWS_SQL + "WHERE b.status = :status AND b.check_out_date = :checkOutDate";
+        if (hotelId != null) {
+            sql += " AND rt.hotel_id = :hotelId";
+            params.addValue("hotelId", hotelId);
+        }
+        return namedJdbcTemplate.query(sql + LOCK_SUFFIX, params, STATUS_ROW_MAPPER);
+    }
+}
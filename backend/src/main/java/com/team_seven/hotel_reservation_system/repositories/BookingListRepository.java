@@ -0,0 +1,87 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.dto.BookingKeyDto;
+import com.team_seven.hotel_reservation_system.dto.BookingListCriteria;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Keyset listing of bookings for the admin list, newest first by (created_at, id).
+ *
+ * Only the ids of one page are read here, through idx_bookings_created_id, so a deep page costs
+ * the same as the first. Totals are never part of a page: {@link #count} runs only on request and
+ * is cached per filter for a short while, which is plenty for an "about N bookings" label.
+ */
+@Repository
+public class BookingListRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final BoundedTtlCache<String, Long> counts;
+
+    public BookingListRepository(JdbcTemplate jdbcTemplate,
+                                 @Value("${booking.list.count-cache.max-entries:256}") int maxCounts,
+                                 @Value("${booking.list.count-ttl:30s}") Duration countTtl) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.counts = new BoundedTtlCache<>(maxCounts, countTtl);
+    }
+
+    /**
+     * Returns up to {@code limit} rows after the ({@code afterCreatedAt}, {@code afterId}) key;
+     * a null key starts from the newest booking.
+     */
+    public List<BookingKeyDto> findPageKeys(BookingListCriteria criteria, Timestamp afterCreatedAt, Long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder("SELECT b.id, b.created_at FROM bookings b WHERE 1 = 1");
+        appendFilters(criteria, sql, params);
+        if (afterCreatedAt != null) {
+            sql.append(" AND (b.created_at, b.id) < (:afterCreatedAt, :afterId)");
+            params.addValue("afterCreatedAt", afterCreatedAt).addValue("afterId", afterId);
+        }
+        sql.append(" ORDER BY b.created_at DESC, b.id DESC LIMIT :limit");
+        return namedJdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new BookingKeyDto(rs.getLong(1), rs.getTimestamp(2)));
+    }
+
+    public long count(BookingListCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM bookings b WHERE 1 = 1");
+        appendFilters(criteria, sql, params);
+        return counts.getOrLoad(filterKey(criteria),
+                () -> namedJdbcTemplate.queryForObject(sql.toString(), params, Long.class));
+    }
+
+    private void appendFilters(BookingListCriteria criteria, StringBuilder sql, MapSqlParameterSource params) {
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            sql.append(" AND b.status IN (:statuses)");
+            params.addValue("statuses", BookingStatus.codesOf(criteria.getStatuses()));
+        }
+        if (criteria.getCheckInFrom() != null) {
+            sql.append(" AND b.check_in_date >= :checkInFrom");
+            params.addValue("checkInFrom", criteria.getCheckInFrom());
+        }
+        if (criteria.getCheckInTo() != null) {
+            sql.append(" AND b.check_in_date <= :checkInTo");
+            params.addValue("checkInTo", criteria.getCheckInTo());
+        }
+        if (criteria.getHotelId() != null) {
+            sql.append(" AND b.room_id IN (SELECT r.id FROM rooms r JOIN room_types rt ON rt.id = r.room_type_id"
+                    + " WHERE rt.hotel_id = :hotelId)");
+            params.addValue("hotelId", criteria.getHotelId());
+        }
+    }
+
+    private String filterKey(BookingListCriteria criteria) {
+        Object statuses = criteria.getStatuses() == null ? null : new TreeSet<>(criteria.getStatuses());
+        return statuses + ":" + criteria.getCheckInFrom() + ":" + criteria.getCheckInTo() + ":" + criteria.getHotelId();
+    }
+}
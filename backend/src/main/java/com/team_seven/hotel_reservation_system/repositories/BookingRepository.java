@@ -2,45 +2,189 @@ package com.team_seven.hotel_reservation_system.repositories;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import com.team_seven.hotel_reservation_system.dto.BookingExportRowDto;
+import com.team_seven.hotel_reservation_system.dto.BookingSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.RoomNightStatusDto;
+import com.team_seven.hotel_reservation_system.dto.RoomStayDto;
 import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
 import com.team_seven.hotel_reservation_system.models.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    Page<Booking> findAllByStatusContainingIgnoreCase(String status, Pageable pageable);
     Optional<List<Booking>> findByCustomer(Customer customer);
     
-    @Query("SELECT b FROM Booking b " +
-            "JOIN FETCH b.customer c " +
-            "JOIN FETCH b.room r " +
-            "JOIN FETCH r.roomType rt " +
-            "WHERE c.email = :email")
-    List<Booking> findDetailedBookingsByCustomerEmail(@Param("email") String email);
-
-    @Query(value = """
-        SELECT b FROM Booking b 
-        JOIN FETCH b.customer c 
-        JOIN FETCH b.room r 
-        JOIN FETCH r.roomType rt
-    """,
-    countQuery = "SELECT COUNT(b) FROM Booking b",
-    nativeQuery = false)
-    Page<Booking> findAllWithDetails(Pageable pageable);
-
-    @Query(value = """
-        SELECT b FROM Booking b 
-        JOIN FETCH b.customer c 
-        JOIN FETCH b.room r 
-        JOIN FETCH r.roomType rt
-        WHERE LOWER(b.status) LIKE LOWER(CONCAT('%', :status, '%'))
-    """,
-    countQuery = "SELECT COUNT(b) FROM Booking b WHERE LOWER(b.status) LIKE LOWER(CONCAT('%', :status, '%'))",
-    nativeQuery = false)
-    Page<Booking> findAllByStatusContainingIgnoreCaseWithDetails(@Param("status") String status, Pageable pageable);
+    // Flat rows for list views: constructor expressions load only the shown columns and nothing
+    // ends up in the persistence context. b.room.id reads the foreign key without joining rooms.
+    String BOOKING_SUMMARY = """
+        SELECT new com.team_seven.hotel_reservation_system.dto.BookingSummaryDto(
+            b.id, b.room.id, b.checkInDate, b.checkOutDate, b.numberOfGuests, b.totalPrice, b.status, b.createdAt
+        )
+        FROM Booking b
+        """;
+
+    @Query(BOOKING_SUMMARY + "WHERE b.customer.email = :email")
+    List<BookingSummaryDto> findSummariesByCustomerEmail(@Param("email") String email);
+
+    @Query(value = BOOKING_SUMMARY, countQuery = "SELECT COUNT(b) FROM Booking b")
+    Page<BookingSummaryDto> findAllSummaries(Pageable pageable);
+
+    // Exact IN-list match on the status code, so both queries can use idx_bookings_status_check_in.
+    @Query(value = BOOKING_SUMMARY + "WHERE b.status IN :statuses",
+            countQuery = "SELECT COUNT(b) FROM Booking b WHERE b.status IN :statuses")
+    Page<BookingSummaryDto> findSummariesByStatusIn(@Param("statuses") Collection<BookingStatus> statuses, Pageable pageable);
+
+    @Query(BOOKING_SUMMARY + "WHERE b.id IN :ids")
+    List<BookingSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Every booking checking in within [from, to), in check-in order. Rows are pulled from a
+     * forward-only cursor {@link #EXPORT_FETCH_SIZE} at a time, so the stream must be consumed
+     * inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.team_seven.hotel_reservation_system.dto.BookingExportRowDto(
+            b.id, b.createdAt, b.checkInDate, b.checkOutDate, b.numberOfGuests, b.totalPrice, b.status,
+            c.email, r.roomNumber, rt.name, h.name
+        )
+        FROM Booking b
+        JOIN b.customer c
+        JOIN b.room r
+        JOIN r.roomType rt
+        LEFT JOIN rt.hotel h
+        WHERE b.checkInDate >= :from
+          AND b.checkInDate < :to
+        ORDER BY b.checkInDate, b.id
+    """)
+    Stream<BookingExportRowDto> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomStayDto(
+            b.id,
+            b.room.id,
+            b.checkInDate,
+            b.checkOutDate
+        )
+        FROM Booking b
+        WHERE b.status IN :statuses
+    """)
+    List<RoomStayDto> findStaysByStatusIn(@Param("statuses") Collection<BookingStatus> statuses);
+
+    // Blocking bookings covering the night of :date; served by idx_bookings_status_check_in.
+    @Query("""
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomNightStatusDto(b.room.id, b.status)
+        FROM Booking b
+        WHERE b.status IN :statuses
+          AND b.checkInDate <= :date
+          AND b.checkOutDate > :date
+    """)
+    List<RoomNightStatusDto> findNightStatuses(
+        @Param("date") LocalDate date,
+        @Param("statuses") Collection<BookingStatus> statuses
+    );
+
+    @Query("""
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomNightStatusDto(b.room.id, b.status)
+        FROM Booking b
+        WHERE b.room.id IN :roomIds
+          AND b.status IN :statuses
+          AND b.checkInDate <= :date
+          AND b.checkOutDate > :date
+    """)
+    List<RoomNightStatusDto> findNightStatusesByRoomIdIn(
+        @Param("roomIds") Collection<Long> roomIds,
+        @Param("date") LocalDate date,
+        @Param("statuses") Collection<BookingStatus> statuses
+    );
+
+    @Query("""
+        SELECT b.status FROM Booking b
+        WHERE b.room.id = :roomId
+          AND b.status IN :statuses
+          AND b.checkInDate <= :date
+          AND b.checkOutDate > :date
+    """)
+    List<BookingStatus> findNightStatusesByRoomId(
+        @Param("roomId") Long roomId,
+        @Param("date") LocalDate date,
+        @Param("statuses") Collection<BookingStatus> statuses
+    );
+
+    @Query("""
+        SELECT DISTINCT b.room.id FROM Booking b
+        WHERE b.room.id IN :roomIds
+          AND b.checkInDate < :checkOutDate
+          AND b.checkOutDate > :checkInDate
+          AND b.status IN (com.team_seven.hotel_reservation_system.models.BookingStatus.CONFIRMED, com.team_seven.hotel_reservation_system.models.BookingStatus.CHECKED_IN)
+    """)
+    List<Long> findBookedRoomIds(
+        @Param("roomIds") Collection<Long> roomIds,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate
+    );
+
+    @Query("""
+        SELECT COUNT(b) > 0 FROM Booking b
+        WHERE b.room.id = :roomId
+          AND b.checkInDate < :checkOutDate
+          AND b.checkOutDate > :checkInDate
+          AND b.status IN :statuses
+    """)
+    boolean existsOverlappingBooking(
+        @Param("roomId") Long roomId,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate,
+        @Param("statuses") Collection<BookingStatus> statuses
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status);
+
+    @Query("""
+        SELECT b.id FROM Booking b
+        WHERE b.status = :status
+          AND b.checkInDate < :date
+          AND b.id > :afterId
+        ORDER BY b.id
+    """)
+    List<Long> findIdsByStatusAndCheckInBefore(
+        @Param("status") BookingStatus status,
+        @Param("date") LocalDate date,
+        @Param("afterId") Long afterId,
+        Pageable limit
+    );
+
+    @Query("""
+        SELECT b.id FROM Booking b
+        WHERE b.status = :status
+          AND b.checkOutDate < :date
+          AND b.id > :afterId
+        ORDER BY b.id
+    """)
+    List<Long> findIdsByStatusAndCheckOutBefore(
+        @Param("status") BookingStatus status,
+        @Param("date") LocalDate date,
+        @Param("afterId") Long afterId,
+        Pageable limit
+    );
 }
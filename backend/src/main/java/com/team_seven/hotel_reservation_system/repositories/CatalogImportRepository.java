@@ -0,0 +1,103 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Batched inserts of hotels, room types and rooms for the catalog import.
+ *
+ * As in {@link BookingBatchRepository}, ids come from each table's sequence in blocks, one query
+ * per block, so rows can point at parents from the same import before anything is written and
+ * every insert goes out as a plain JDBC batch. The entities passed in are only value holders:
+ * a room type needs its hotel's id and a room its room type's id, not loaded entities.
+ */
+@Repository
+public class CatalogImportRepository {
+
+    public static final String HOTEL_SEQUENCE = "hotels_id_seq";
+    public static final String ROOM_TYPE_SEQUENCE = "room_types_id_seq";
+    public static final String ROOM_SEQUENCE = "rooms_id_seq";
+
+    private static final String INSERT_HOTEL_SQL = """
+        INSERT INTO hotels (id, name, address, city, phone_number, description, image_url, rating)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_ROOM_TYPE_SQL = """
+        INSERT INTO room_types (id, hotel_id, name, image_url, description, price_per_night, capacity)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_ROOM_SQL = """
+        INSERT INTO rooms (id, room_type_id, room_number, status)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> allocateIds(String sequence, int count) {
+        return jdbcTemplate.queryForList(
+            "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class, sequence, count);
+    }
+
+    public List<Long> findHotelIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM hotels", Long.class);
+    }
+
+    public List<Long> findRoomTypeIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM room_types", Long.class);
+    }
+
+    public void insertHotels(List<Hotel> hotels) {
+        if (hotels.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_HOTEL_SQL, hotels, hotels.size(), (ps, hotel) -> {
+            ps.setLong(1, hotel.getId());
+            ps.setString(2, hotel.getName());
+            ps.setString(3, hotel.getAddress());
+            ps.setString(4, hotel.getCity());
+            ps.setString(5, hotel.getPhoneNumber());
+            ps.setString(6, hotel.getDescription());
+            ps.setString(7, hotel.getImageUrl());
+            ps.setObject(8, hotel.getRating(), Types.NUMERIC);
+        });
+    }
+
+    public void insertRoomTypes(List<RoomType> roomTypes) {
+        if (roomTypes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROOM_TYPE_SQL, roomTypes, roomTypes.size(), (ps, roomType) -> {
+            ps.setLong(1, roomType.getId());
+            ps.setLong(2, roomType.getHotel().getId());
+            ps.setString(3, roomType.getName());
+            ps.setString(4, roomType.getImageUrl());
+            ps.setString(5, roomType.getDescription());
+            ps.setBigDecimal(6, roomType.getPricePerNight());
+            ps.setInt(7, roomType.getCapacity());
+        });
+    }
+
+    public void insertRooms(List<Room> rooms) {
+        if (rooms.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROOM_SQL, rooms, rooms.size(), (ps, room) -> {
+            ps.setLong(1, room.getId());
+            ps.setLong(2, room.getRoomType().getId());
+            ps.setString(3, room.getRoomNumber());
+            ps.setShort(4, room.getStatus().getCode());
+        });
+    }
+}
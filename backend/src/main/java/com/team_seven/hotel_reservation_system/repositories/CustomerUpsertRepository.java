@@ -0,0 +1,34 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Resolves a guest email to a customer id with one statement, creating the customer if needed.
+ */
+@Repository
+public class CustomerUpsertRepository {
+
+    // The no-op update makes RETURNING yield the id of an existing row too, and concurrent inserts
+    // for the same email wait on each other instead of failing on the unique constraint.
+    private static final String UPSERT_SQL = """
+        INSERT INTO customers (email, first_name, last_name, phone_number)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (email) DO UPDATE SET email = EXCLUDED.email
+        RETURNING id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerUpsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the id of the customer with {@code email}. Names and phone number are only used when
+     * the customer is created; an existing customer is left as it is.
+     */
+    public Long upsertByEmail(String email, String firstName, String lastName, String phoneNumber) {
+        return jdbcTemplate.queryForObject(UPSERT_SQL, Long.class, email, firstName, lastName, phoneNumber);
+    }
+}
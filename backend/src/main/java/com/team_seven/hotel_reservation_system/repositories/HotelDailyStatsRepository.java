@@ -0,0 +1,90 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.models.HotelDailyStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HotelDailyStatsRepository extends JpaRepository<HotelDailyStats, HotelDailyStats.Key> {
+
+    // Names the only table these native statements write, so Hibernate does not have to assume
+    // they touched every table and throw away the whole second-level cache.
+    String STATS_SPACE = "hotel_daily_stats";
+
+    List<HotelDailyStats> findByStayDateBetweenOrderByHotelIdAscStayDateAsc(LocalDate from, LocalDate to);
+
+    List<HotelDailyStats> findByHotelIdAndStayDateBetweenOrderByStayDate(Long hotelId, LocalDate from, LocalDate to);
+
+    // Adds (or with delta -1 takes back) one booking's nights under a status. Dates, price and
+    // hotel are read from the booking itself, so callers only pass its id.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_SPACE))
+    @Query(value = """
+        INSERT INTO hotel_daily_stats (hotel_id, stay_date, status, room_nights, revenue)
+        SELECT rt.hotel_id, CAST(night AS DATE), :status, :delta,
+               :delta * b.total_price / (b.check_out_date - b.check_in_date)
+        FROM bookings b
+        JOIN rooms r ON r.id = b.room_id
+        JOIN room_types rt ON rt.id = r.room_type_id
+        CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS night
+        WHERE b.id = :bookingId
+          AND rt.hotel_id IS NOT NULL
+        ON CONFLICT (hotel_id, stay_date, status)
+        DO UPDATE SET room_nights = hotel_daily_stats.room_nights + EXCLUDED.room_nights,
+                      revenue = hotel_daily_stats.revenue + EXCLUDED.revenue
+        """, nativeQuery = true)
+    int addBookingNights(
+        @Param("bookingId") Long bookingId,
+        @Param("status") short status,
+        @Param("delta") int delta
+    );
+
+    @Query("SELECT MIN(s.stayDate) FROM HotelDailyStats s")
+    LocalDate findFirstStayDate();
+
+    @Query("SELECT MAX(s.stayDate) FROM HotelDailyStats s")
+    LocalDate findLastStayDate();
+
+    @Query("SELECT MIN(b.checkInDate) FROM Booking b")
+    LocalDate findFirstCheckInDate();
+
+    @Query("SELECT MAX(b.checkOutDate) FROM Booking b")
+    LocalDate findLastCheckOutDate();
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_SPACE))
+    @Query(value = "DELETE FROM hotel_daily_stats WHERE stay_date >= :from AND stay_date < :to", nativeQuery = true)
+    int deleteNights(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Nights in [from, to) of every booking that overlaps the window; each night still earns its
+    // share of the whole stay's price.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = STATS_SPACE))
+    @Query(value = """
+        INSERT INTO hotel_daily_stats (hotel_id, stay_date, status, room_nights, revenue)
+        SELECT rt.hotel_id, CAST(night AS DATE), b.status, COUNT(*),
+               SUM(b.total_price / (b.check_out_date - b.check_in_date))
+        FROM bookings b
+        JOIN rooms r ON r.id = b.room_id
+        JOIN room_types rt ON rt.id = r.room_type_id
+        CROSS JOIN LATERAL generate_series(
+            GREATEST(b.check_in_date, CAST(:from AS DATE)),
+            LEAST(b.check_out_date, CAST(:to AS DATE)) - 1,
+            INTERVAL '1 day') AS night
+        WHERE rt.hotel_id IS NOT NULL
+          AND b.check_out_date > b.check_in_date
+          AND b.check_in_date < :to
+          AND b.check_out_date > :from
+        GROUP BY rt.hotel_id, CAST(night AS DATE), b.status
+        """, nativeQuery = true)
+    int insertNightsFromBookings(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
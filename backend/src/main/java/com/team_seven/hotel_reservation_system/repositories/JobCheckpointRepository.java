@@ -0,0 +1,9 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.models.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
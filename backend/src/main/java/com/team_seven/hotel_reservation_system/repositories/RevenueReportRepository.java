@@ -0,0 +1,55 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.util.ParallelStayAggregator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Streams booked stays for the revenue report as bare primitives: room type, night span and the
+ * total price in cents.
+ *
+ * Rows are fetched {@value #FETCH_SIZE} at a time. Postgres only streams inside a transaction, so
+ * callers run {@link #forEachStay} in a read-only one.
+ */
+@Repository
+public class RevenueReportRepository {
+
+    public static final int FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public RevenueReportRepository(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public void forEachStay(LocalDate from, LocalDate toExclusive, Collection<BookingStatus> statuses, Long hotelId,
+                            ParallelStayAggregator.StayConsumer consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", toExclusive)
+                .addValue("statuses", BookingStatus.codesOf(statuses));
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.room_type_id, b.check_in_date, b.check_out_date, CAST(ROUND(b.total_price * 100) AS BIGINT)"
+                + " FROM bookings b JOIN rooms r ON r.id = b.room_id"
+                + " WHERE b.check_in_date < :to AND b.check_out_date > :from AND b.status IN (:statuses)");
+        if (hotelId != null) {
+            sql.append(" AND r.room_type_id IN (SELECT rt.id FROM room_types rt WHERE rt.hotel_id = :hotelId)");
+            params.addValue("hotelId", hotelId);
+        }
+        namedJdbcTemplate.query(sql.toString(), params, rs -> {
+            consumer.accept(rs.getLong(1),
+                    rs.getObject(2, LocalDate.class).toEpochDay(),
+                    rs.getObject(3, LocalDate.class).toEpochDay(),
+                    rs.getLong(4));
+        });
+    }
+}
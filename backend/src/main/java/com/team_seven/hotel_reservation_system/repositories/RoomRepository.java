@@ -1,16 +1,58 @@
 package com.team_seven.hotel_reservation_system.repositories;
 
+import com.team_seven.hotel_reservation_system.dto.HotelRoomCountDto;
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
 import com.team_seven.hotel_reservation_system.dto.RoomDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeRoomCountDto;
 import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    // Room, room type and hotel columns in one joined select, for catalog lists. Loading Room
+    // entities instead costs two extra lazy loads per room once roomType and hotel are read.
+    String ROOM_DTO = """
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomDto(
+            r.id, r.roomNumber, rt.id, rt.name, rt.imageUrl, rt.description, rt.pricePerNight,
+            r.status, rt.capacity, h.name
+        )
+        FROM Room r JOIN r.roomType rt JOIN rt.hotel h
+        """;
+
+    String ROOM_FILTER = """
+        WHERE (:hotelId IS NULL OR rt.hotel.id = :hotelId)
+          AND (:roomTypeId IS NULL OR rt.id = :roomTypeId)
+          AND (:status IS NULL OR r.status = :status)
+        """;
+
+    @Query(ROOM_DTO + "WHERE r.id = :id")
+    Optional<RoomDto> findRoomDtoById(@Param("id") Long id);
+
+    @Query(ROOM_DTO + "ORDER BY r.id")
+    List<RoomDto> findAllRoomDtos();
+
+    @Query(value = ROOM_DTO + ROOM_FILTER + "ORDER BY r.id",
+            countQuery = "SELECT COUNT(r) FROM Room r JOIN r.roomType rt " + ROOM_FILTER)
+    Page<RoomDto> findRoomPage(
+        @Param("hotelId") Long hotelId,
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("status") RoomStatus status,
+        Pageable pageable
+    );
+
     @Query("SELECT new com.team_seven.hotel_reservation_system.dto.RoomDto(" +
     " r.id, " +
     " r.roomNumber, " +
@@ -26,9 +68,31 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     " FROM Room r JOIN r.roomType rt JOIN rt.hotel h " +
     " WHERE LOWER(h.city ) = LOWER(:city) " +
     " AND rt.capacity >= :guestCapacity " +
-    " AND LOWER(r.status) = LOWER('Available')")
+    " AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE")
     List<RoomDto> findAvailableRoomsByCityAndCapacity(
         @Param("city") String city,
         @Param("guestCapacity") int guestCapacity
     );
+
+    @Query("SELECT new com.team_seven.hotel_reservation_system.dto.IndexedRoomDto(r.id, r.roomType.id, r.status) FROM Room r")
+    List<IndexedRoomDto> findAllIndexedRooms();
+
+    long countByRoomTypeIdAndStatus(Long roomTypeId, RoomStatus status);
+
+    @Query("SELECT new com.team_seven.hotel_reservation_system.dto.HotelRoomCountDto(rt.hotel.id, COUNT(r)) " +
+    " FROM Room r JOIN r.roomType rt WHERE rt.hotel IS NOT NULL GROUP BY rt.hotel.id")
+    List<HotelRoomCountDto> countRoomsByHotel();
+
+    @Query("SELECT new com.team_seven.hotel_reservation_system.dto.RoomTypeRoomCountDto(h.id, h.name, rt.id, rt.name, COUNT(r)) " +
+    " FROM Room r JOIN r.roomType rt JOIN rt.hotel h GROUP BY h.id, h.name, rt.id, rt.name ORDER BY h.id, rt.id")
+    List<RoomTypeRoomCountDto> countRoomsByRoomType();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id = :id")
+    Optional<Room> findByIdForUpdate(@Param("id") Long id);
+
+    // Locks rows in id order so two group bookings sharing rooms wait on each other instead of deadlocking.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :ids ORDER BY r.id")
+    List<Room> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,147 @@
+package com.team_seven.hotel_reservation_system.repositories;
+
+import com.team_seven.hotel_reservation_system.models.RoomTypeInventory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomTypeInventoryRepository extends JpaRepository<RoomTypeInventory, RoomTypeInventory.Key> {
+
+    // Names the only table these native statements write, so Hibernate does not have to assume
+    // they touched every table and throw away the whole second-level cache.
+    String INVENTORY_SPACE = "room_type_inventory";
+
+    List<RoomTypeInventory> findByRoomTypeIdAndStayDateBetweenOrderByStayDate(
+        Long roomTypeId, LocalDate from, LocalDate to
+    );
+
+    // Takes the room off every night of the stay; a night seen for the first time starts from the
+    // room type's count of AVAILABLE rooms. A room under maintenance is not counted in the first
+    // place, so booking it changes nothing.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        INSERT INTO room_type_inventory (room_type_id, stay_date, available_rooms)
+        SELECT :roomTypeId, CAST(night AS DATE),
+               (SELECT COUNT(*) FROM rooms r WHERE r.room_type_id = :roomTypeId AND r.status = :availableStatus) - 1
+        FROM generate_series(CAST(:checkInDate AS DATE), CAST(:checkOutDate AS DATE) - 1, INTERVAL '1 day') AS night
+        WHERE EXISTS (SELECT 1 FROM rooms r WHERE r.id = :roomId AND r.status = :availableStatus)
+        ON CONFLICT (room_type_id, stay_date)
+        DO UPDATE SET available_rooms = room_type_inventory.available_rooms - 1
+        """, nativeQuery = true)
+    int reserveNights(
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("roomId") Long roomId,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate,
+        @Param("availableStatus") short availableStatus
+    );
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        UPDATE room_type_inventory
+        SET available_rooms = available_rooms + 1
+        WHERE room_type_id = :roomTypeId
+          AND stay_date >= :checkInDate
+          AND stay_date < :checkOutDate
+          AND EXISTS (SELECT 1 FROM rooms r WHERE r.id = :roomId AND r.status = :availableStatus)
+        """, nativeQuery = true)
+    int releaseNights(
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("roomId") Long roomId,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate,
+        @Param("availableStatus") short availableStatus
+    );
+
+    // Counts a room that is new or back from maintenance. Nights it is booked on are left alone:
+    // a room that is not counted was not subtracted for those bookings either.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        UPDATE room_type_inventory i
+        SET available_rooms = available_rooms + 1
+        WHERE i.room_type_id = :roomTypeId
+          AND NOT EXISTS (
+              SELECT 1 FROM bookings b
+              WHERE b.room_id = :roomId
+                AND b.status IN (:blockingStatusCodes)
+                AND b.check_in_date <= i.stay_date
+                AND b.check_out_date > i.stay_date
+          )
+        """, nativeQuery = true)
+    int addRoom(
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("roomId") Long roomId,
+        @Param("blockingStatusCodes") Collection<Short> blockingStatusCodes
+    );
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        UPDATE room_type_inventory
+        SET available_rooms = available_rooms + :rooms
+        WHERE room_type_id = :roomTypeId
+        """, nativeQuery = true)
+    int addRooms(@Param("roomTypeId") Long roomTypeId, @Param("rooms") int rooms);
+
+    // Stops counting a room that is deleted or goes into maintenance. Must run while the room's
+    // bookings still exist: nights the room was booked on already counted it as taken, so they
+    // stay unchanged.
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        UPDATE room_type_inventory i
+        SET available_rooms = available_rooms - 1
+        WHERE i.room_type_id = :roomTypeId
+          AND NOT EXISTS (
+              SELECT 1 FROM bookings b
+              WHERE b.room_id = :roomId
+                AND b.status IN (:blockingStatusCodes)
+                AND b.check_in_date <= i.stay_date
+                AND b.check_out_date > i.stay_date
+          )
+        """, nativeQuery = true)
+    int removeRoom(
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("roomId") Long roomId,
+        @Param("blockingStatusCodes") Collection<Short> blockingStatusCodes
+    );
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = "DELETE FROM room_type_inventory WHERE room_type_id = :roomTypeId", nativeQuery = true)
+    int deleteByRoomTypeId(@Param("roomTypeId") Long roomTypeId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = INVENTORY_SPACE))
+    @Query(value = """
+        INSERT INTO room_type_inventory (room_type_id, stay_date, available_rooms)
+        SELECT r.room_type_id, CAST(night AS DATE),
+               (SELECT COUNT(*) FROM rooms t WHERE t.room_type_id = :roomTypeId AND t.status = :availableStatus)
+                   - COUNT(*)
+        FROM bookings b
+        JOIN rooms r ON r.id = b.room_id
+        CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS night
+        WHERE r.room_type_id = :roomTypeId
+          AND r.status = :availableStatus
+          AND b.status IN (:blockingStatusCodes)
+        GROUP BY r.room_type_id, CAST(night AS DATE)
+        """, nativeQuery = true)
+    int insertFromBookings(
+        @Param("roomTypeId") Long roomTypeId,
+        @Param("blockingStatusCodes") Collection<Short> blockingStatusCodes,
+        @Param("availableStatus") short availableStatus
+    );
+}
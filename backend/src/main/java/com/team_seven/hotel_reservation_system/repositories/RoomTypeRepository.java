@@ -1,22 +1,58 @@
 package com.team_seven.hotel_reservation_system.repositories;
 
 import com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeOptionDto;
 import com.team_seven.hotel_reservation_system.models.RoomType;
 import com.team_seven.hotel_reservation_system.models.Hotel;
 import com.team_seven.hotel_reservation_system.models.Room;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
+
+    // Catalog rows with the hotel joined in, so listing room types never lazy-loads a hotel per row.
+    String ROOM_TYPE_DTO = """
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomTypeDto(
+            rt.id, rt.name, rt.imageUrl, rt.description, rt.pricePerNight, rt.capacity, h.id, h.name
+        )
+        FROM RoomType rt JOIN rt.hotel h
+        """;
+
+    String HOTEL_FILTER = "WHERE (:hotelId IS NULL OR h.id = :hotelId) ";
+
+    @Query(ROOM_TYPE_DTO + "WHERE rt.id = :id")
+    Optional<RoomTypeDto> findRoomTypeDtoById(@Param("id") Long id);
+
+    @Query(ROOM_TYPE_DTO + HOTEL_FILTER + "ORDER BY rt.id")
+    List<RoomTypeDto> findRoomTypeDtos(@Param("hotelId") Long hotelId);
+
+    @Query(value = ROOM_TYPE_DTO + HOTEL_FILTER + "ORDER BY rt.id",
+            countQuery = "SELECT COUNT(rt) FROM RoomType rt JOIN rt.hotel h " + HOTEL_FILTER)
+    Page<RoomTypeDto> findRoomTypePage(@Param("hotelId") Long hotelId, Pageable pageable);
+
+    // Just enough for a dropdown: no descriptions or image URLs.
+    @Query("""
+        SELECT new com.team_seven.hotel_reservation_system.dto.RoomTypeOptionDto(rt.id, rt.name, h.id, h.name)
+        FROM RoomType rt JOIN rt.hotel h
+        """ + HOTEL_FILTER + "ORDER BY h.name, rt.name")
+    List<RoomTypeOptionDto> findRoomTypeOptions(@Param("hotelId") Long hotelId);
+
 @Query("""
     SELECT new com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto(
         r.id,                   
@@ -32,13 +68,13 @@ public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
     JOIN rt.hotel h
     WHERE h.city = :city
       AND rt.capacity >= :guestCapacity
-      AND r.status NOT IN ('BOOKED', 'MAINTENANCE', 'OCCUPIED')
+      AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE
       AND NOT EXISTS (
         SELECT 1 FROM Booking b
         WHERE b.room = r
           AND b.checkInDate < :checkOutDate
           AND b.checkOutDate > :checkInDate
-          AND b.status IN ('CONFIRMED', 'CHECKED_IN')
+          AND b.status IN (com.team_seven.hotel_reservation_system.models.BookingStatus.CONFIRMED, com.team_seven.hotel_reservation_system.models.BookingStatus.CHECKED_IN)
       )
     GROUP BY r.id, h.name, h.city, rt.name, rt.imageUrl, rt.pricePerNight, rt.capacity
     """)
@@ -48,6 +84,149 @@ public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
         @Param("checkOutDate") LocalDate checkOutDate,
         @Param("guestCapacity") int guestCapacity
     );
+
+@Query("""
+    SELECT new com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto(
+        r.id,
+        h.name,
+        h.city,
+        rt.name,
+        rt.imageUrl,
+        rt.pricePerNight,
+        rt.capacity
+    )
+    FROM Room r
+    JOIN r.roomType rt
+    JOIN rt.hotel h
+    WHERE h.city = :city
+      AND rt.capacity >= :guestCapacity
+      AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE
+    """)
+    List<RoomSearchResultDto> findSearchCandidates(
+        @Param("city") String city,
+        @Param("guestCapacity") int guestCapacity
+    );
+
+@Query("""
+    SELECT new com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto(
+        h.id,
+        h.name,
+        h.city,
+        rt.id,
+        rt.name,
+        rt.imageUrl,
+        rt.pricePerNight,
+        rt.capacity,
+        COUNT(r.id),
+        MIN(r.id)
+    )
+    FROM Room r
+    JOIN r.roomType rt
+    JOIN rt.hotel h
+    WHERE h.city = :city
+      AND rt.capacity >= :guestCapacity
+      AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE
+      AND NOT EXISTS (
+        SELECT 1 FROM Booking b
+        WHERE b.room = r
+          AND b.checkInDate < :checkOutDate
+          AND b.checkOutDate > :checkInDate
+          AND b.status IN (com.team_seven.hotel_reservation_system.models.BookingStatus.CONFIRMED, com.team_seven.hotel_reservation_system.models.BookingStatus.CHECKED_IN)
+      )
+      AND r.id NOT IN :heldRoomIds
+    GROUP BY h.id, h.name, h.city, rt.id, rt.name, rt.imageUrl, rt.pricePerNight, rt.capacity
+    """)
+    List<RoomTypeAvailabilityDto> findAvailableRoomTypeSummaries(
+        @Param("city") String city,
+        @Param("checkInDate") LocalDate checkInDate,
+        @Param("checkOutDate") LocalDate checkOutDate,
+        @Param("guestCapacity") int guestCapacity,
+        @Param("heldRoomIds") Collection<Long> heldRoomIds
+    );
+
+@Query("""
+    SELECT new com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto(
+        h.id,
+        h.name,
+        h.city,
+        rt.id,
+        rt.name,
+        rt.imageUrl,
+        rt.pricePerNight,
+        rt.capacity
+    )
+    FROM RoomType rt
+    JOIN rt.hotel h
+    WHERE h.city = :city
+      AND rt.capacity >= :guestCapacity
+    """)
+    List<RoomTypeAvailabilityDto> findRoomTypeCandidates(
+        @Param("city") String city,
+        @Param("guestCapacity") int guestCapacity
+    );
+
+@Query("""
+    SELECT new com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto(
+        r.id,
+        h.name,
+        h.city,
+        rt.name,
+        rt.imageUrl,
+        rt.pricePerNight,
+        rt.capacity
+    )
+    FROM Room r
+    JOIN r.roomType rt
+    JOIN rt.hotel h
+    WHERE h.city = :city
+      AND rt.capacity >= :guestCapacity
+      AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE
+      AND rt.pricePerNight BETWEEN :minPrice AND :maxPrice
+      AND (rt.pricePerNight > :afterPrice OR (rt.pricePerNight = :afterPrice AND r.id > :afterRoomId))
+    ORDER BY rt.pricePerNight ASC, r.id ASC
+    """)
+    List<RoomSearchResultDto> findSearchCandidatesByPriceAsc(
+        @Param("city") String city,
+        @Param("guestCapacity") int guestCapacity,
+        @Param("minPrice") BigDecimal minPrice,
+        @Param("maxPrice") BigDecimal maxPrice,
+        @Param("afterPrice") BigDecimal afterPrice,
+        @Param("afterRoomId") Long afterRoomId,
+        Limit limit
+    );
+
+@Query("""
+    SELECT new com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto(
+        r.id,
+        h.name,
+        h.city,
+        rt.name,
+        rt.imageUrl,
+        rt.pricePerNight,
+        rt.capacity
+    )
+    FROM Room r
+    JOIN r.roomType rt
+    JOIN rt.hotel h
+    WHERE h.city = :city
+      AND rt.capacity >= :guestCapacity
+      AND r.status = com.team_seven.hotel_reservation_system.models.RoomStatus.AVAILABLE
+      AND rt.pricePerNight BETWEEN :minPrice AND :maxPrice
+      AND (rt.pricePerNight < :beforePrice OR (rt.pricePerNight = :beforePrice AND r.id < :beforeRoomId))
+    ORDER BY rt.pricePerNight DESC, r.id DESC
+    """)
+    List<RoomSearchResultDto> findSearchCandidatesByPriceDesc(
+        @Param("city") String city,
+        @Param("guestCapacity") int guestCapacity,
+        @Param("minPrice") BigDecimal minPrice,
+        @Param("maxPrice") BigDecimal maxPrice,
+        @Param("beforePrice") BigDecimal beforePrice,
+        @Param("beforeRoomId") Long beforeRoomId,
+        Limit limit
+    );
     Optional<RoomType> findByName(String name);
     Optional<RoomType> findByNameAndHotel(String name, Hotel hotel);
+
+    @Query("SELECT rt.id FROM RoomType rt ORDER BY rt.id")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,119 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.dto.BookingExportFormat;
+import com.team_seven.hotel_reservation_system.dto.BookingExportRowDto;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams bookings to a client as NDJSON or CSV without holding the result in memory.
+ *
+ * Rows come from a forward-only cursor that fetches {@link BookingRepository#EXPORT_FETCH_SIZE}
+ * rows per round trip and are written out as they arrive. The persistence context is cleared after
+ * every fetch, so memory stays flat no matter how many rows the export covers.
+ */
+@Service
+public class BookingExportService {
+
+    private static final String[] CSV_HEADER = {
+        "booking_id", "created_at", "check_in_date", "check_out_date", "number_of_guests",
+        "total_price", "status", "customer_email", "room_number", "room_type", "hotel"
+    };
+
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BookingExportService(BookingRepository bookingRepository, EntityManager entityManager,
+                                ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every booking checking in within [from, to) to {@code out} and returns the row count.
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate from, LocalDate to, BookingExportFormat format, OutputStream out) throws IOException {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range needs a 'from' date before its 'to' date");
+        }
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        if (format == BookingExportFormat.CSV) {
+            writeCsvLine(writer, CSV_HEADER);
+        }
+
+        long rows = 0;
+        try (Stream<BookingExportRowDto> stream = bookingRepository.streamExportRows(from, to)) {
+            Iterator<BookingExportRowDto> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                BookingExportRowDto row = iterator.next();
+                if (format == BookingExportFormat.CSV) {
+                    writeCsvLine(writer, csvFields(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                rows++;
+                if (rows % BookingRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private String[] csvFields(BookingExportRowDto row) {
+        return new String[] {
+            String.valueOf(row.getBookingId()),
+            row.getCreatedAt() != null ? row.getCreatedAt().toInstant().toString() : null,
+            String.valueOf(row.getCheckInDate()),
+            String.valueOf(row.getCheckOutDate()),
+            String.valueOf(row.getNumberOfGuests()),
+            row.getTotalPrice() != null ? row.getTotalPrice().toPlainString() : null,
+            row.getStatus() != null ? row.getStatus().name() : null,
+            row.getCustomerEmail(),
+            row.getRoomNumber(),
+            row.getRoomTypeName(),
+            row.getHotelName()
+        };
+    }
+
+    private void writeCsvLine(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(fields[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields holding a separator, quote or line break, doubling inner quotes.
+    static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
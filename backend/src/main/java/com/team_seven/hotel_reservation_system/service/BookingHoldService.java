@@ -0,0 +1,356 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.BookingHoldDto;
+import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
+import com.team_seven.hotel_reservation_system.event.RoomHoldChangedEvent;
+import com.team_seven.hotel_reservation_system.exception.BookingConflictException;
+import com.team_seven.hotel_reservation_system.exception.BookingHoldNotFoundException;
+import com.team_seven.hotel_reservation_system.exception.TooManyHoldsException;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.util.HierarchicalTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checkout holds: a room kept aside for a guest for a few minutes while they confirm.
+ *
+ * Holds live only in memory. They are checked together with bookings under the room's lock stripe,
+ * so {@code createBooking} and new holds never take a held room, and search skips held rooms through
+ * the availability index. Expiry is driven by one ticker thread advancing a
+ * {@link HierarchicalTimingWheel} instead of one scheduled task per hold.
+ *
+ * Holds are open to guests without an account, so each one is capped: a client (keyed by the
+ * caller's address or the guest email, see {@code booking.hold.client-key}) may keep
+ * {@code booking.hold.max-per-client} holds, a room
+ * {@code booking.hold.max-per-room} and the instance {@code booking.hold.max-active}. Creating a
+ * hold returns a token, and reading, confirming or releasing it requires that token; the hold id
+ * alone is not enough.
+ *
+ * Holds are local to this instance and are lost on restart, which at worst frees a room early.
+ * With more than one instance a hold only keeps bookings made on its own instance off the room, so
+ * confirming a hold re-checks the room's bookings under the room row lock instead of trusting it.
+ */
+@Service
+public class BookingHoldService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingHoldService.class);
+    private static final int TOKEN_BYTES = 24;
+
+    private final RoomLockStripes roomLocks;
+    private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final long tickMillis;
+    private final int maxActive;
+    private final int maxPerClient;
+    private final int maxPerRoom;
+
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Hold>> holdsByRoom = new ConcurrentHashMap<>();
+    private final Map<String, Integer> holdsByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSlots = new AtomicInteger();
+    private final AtomicLong holdKeys = new AtomicLong();
+    private final SecureRandom tokens = new SecureRandom();
+    private HierarchicalTimingWheel<String> expiryWheel;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public BookingHoldService(RoomLockStripes roomLocks, RoomRepository roomRepository,
+                              BookingRepository bookingRepository, ApplicationEventPublisher eventPublisher,
+                              @Value("${booking.hold.ttl:10m}") Duration defaultTtl,
+                              @Value("${booking.hold.max-ttl:30m}") Duration maxTtl,
+                              @Value("${booking.hold.tick:1s}") Duration tick,
+                              @Value("${booking.hold.max-active:10000}") int maxActive,
+                              @Value("${booking.hold.max-per-client:3}") int maxPerClient,
+                              @Value("${booking.hold.max-per-room:3}") int maxPerRoom) {
+        this.roomLocks = roomLocks;
+        this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.tickMillis = tick.toMillis();
+        this.maxActive = maxActive;
+        this.maxPerClient = maxPerClient;
+        this.maxPerRoom = maxPerRoom;
+    }
+
+    @PostConstruct
+    void startTicker() {
+        expiryWheel = new HierarchicalTimingWheel<>(tickMillis, 64, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-hold-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::expireDueHolds, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopTicker() {
+        ticker.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public BookingHoldDto createHold(GuestBookingRequestDto dto, Integer minutes, String clientKey) {
+        long numberOfNights = ChronoUnit.DAYS.between(dto.getCheckInDate(), dto.getCheckOutDate());
+        if (numberOfNights <= 0) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        Duration ttl = minutes == null ? defaultTtl : Duration.ofMinutes(minutes);
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException("A hold must last between 1 and " + maxTtl.toMinutes() + " minutes");
+        }
+
+        Room room = roomRepository.findById(dto.getRoomId())
+                .orElseThrow(() -> new RuntimeException("Room not found with id: " + dto.getRoomId()));
+        BigDecimal totalPrice = room.getRoomType().getPricePerNight().multiply(BigDecimal.valueOf(numberOfNights));
+
+        takeSlot(clientKey);
+        Hold hold;
+        try (RoomLockStripes.Held ignored = roomLocks.acquire(List.of(room.getId()))) {
+            if (isHeld(room.getId(), dto.getCheckInDate(), dto.getCheckOutDate())
+                    || bookingRepository.existsOverlappingBooking(room.getId(), dto.getCheckInDate(),
+                            dto.getCheckOutDate(), RoomAvailabilityIndex.BLOCKING_STATUSES)) {
+                throw new BookingConflictException("Room " + room.getId() + " is not available between "
+                        + dto.getCheckInDate() + " and " + dto.getCheckOutDate());
+            }
+            Map<String, Hold> roomHolds = holdsByRoom.get(room.getId());
+            if (roomHolds != null && roomHolds.size() >= maxPerRoom) {
+                throw new TooManyHoldsException("Room " + room.getId() + " already has " + maxPerRoom + " holds");
+            }
+            Instant expiresAt = Instant.now().plus(ttl);
+            hold = new Hold(UUID.randomUUID().toString(), newToken(), clientKey, holdKeys.incrementAndGet(),
+                    room.getId(), cityOf(room), dto, totalPrice, expiresAt);
+            holds.put(hold.getHoldId(), hold);
+            holdsByRoom.computeIfAbsent(room.getId(), id -> new ConcurrentHashMap<>()).put(hold.getHoldId(), hold);
+            hold.timeout = expiryWheel.schedule(hold.getHoldId(), expiresAt.toEpochMilli());
+        } catch (RuntimeException e) {
+            returnSlot(clientKey);
+            throw e;
+        }
+        publish(hold, true);
+        BookingHoldDto holdDto = toDto(hold);
+        holdDto.setHoldToken(hold.token);
+        return holdDto;
+    }
+
+    public BookingHoldDto getHold(String holdId, String token) {
+        return toDto(find(holdId, token));
+    }
+
+    /**
+     * Removes the hold so it can be turned into a booking. Only one caller can claim a hold, and a
+     * claimed hold can no longer expire. The caller must hold the room's lock stripe until the
+     * booking is committed; the room stays blocked in the index until then.
+     */
+    public Hold claim(String holdId, String token) {
+        find(holdId, token);
+        Hold hold = remove(holdId);
+        if (hold == null) {
+            throw new BookingHoldNotFoundException(holdId);
+        }
+        return hold;
+    }
+
+    public void release(String holdId, String token) {
+        find(holdId, token);
+        if (remove(holdId) == null) {
+            throw new BookingHoldNotFoundException(holdId);
+        }
+    }
+
+    /**
+     * True when an active hold covers any night of {@code [checkInDate, checkOutDate)} for the room.
+     */
+    public boolean isHeld(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        Map<String, Hold> roomHolds = holdsByRoom.get(roomId);
+        if (roomHolds == null) {
+            return false;
+        }
+        for (Hold hold : roomHolds.values()) {
+            if (hold.getCheckInDate().isBefore(checkOutDate) && hold.getCheckOutDate().isAfter(checkInDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rooms with an active hold on any night of {@code [checkInDate, checkOutDate)}.
+     */
+    public Set<Long> heldRoomIds(LocalDate checkInDate, LocalDate checkOutDate) {
+        Set<Long> roomIds = new HashSet<>();
+        for (Long roomId : holdsByRoom.keySet()) {
+            if (isHeld(roomId, checkInDate, checkOutDate)) {
+                roomIds.add(roomId);
+            }
+        }
+        return roomIds;
+    }
+
+    public int activeHolds() {
+        return holds.size();
+    }
+
+    // An exception escaping the ticker would cancel all future runs, so each hold expires on its own.
+    void expireDueHolds() {
+        for (String holdId : expiryWheel.advanceTo(System.currentTimeMillis())) {
+            try {
+                remove(holdId);
+            } catch (RuntimeException e) {
+                log.error("Error expiring hold {}", holdId, e);
+            }
+        }
+    }
+
+    private Hold remove(String holdId) {
+        Hold hold = holds.remove(holdId);
+        if (hold == null) {
+            return null;
+        }
+        holdsByRoom.computeIfPresent(hold.getRoomId(), (roomId, roomHolds) -> {
+            roomHolds.remove(holdId);
+            return roomHolds.isEmpty() ? null : roomHolds;
+        });
+        if (hold.timeout != null) {
+            hold.timeout.cancel();
+        }
+        returnSlot(hold.getClientKey());
+        publish(hold, false);
+        return hold;
+    }
+
+    // An unknown hold and a wrong token look the same to the caller.
+    private Hold find(String holdId, String token) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || token == null || !MessageDigest.isEqual(
+                hold.token.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BookingHoldNotFoundException(holdId);
+        }
+        return hold;
+    }
+
+    private void takeSlot(String clientKey) {
+        if (activeSlots.incrementAndGet() > maxActive) {
+            activeSlots.decrementAndGet();
+            throw new TooManyHoldsException("Too many active holds, try again later");
+        }
+        try {
+            holdsByClient.compute(clientKey, (key, count) -> {
+                int held = count == null ? 0 : count;
+                if (held >= maxPerClient) {
+                    throw new TooManyHoldsException("At most " + maxPerClient + " active holds per client");
+                }
+                return held + 1;
+            });
+        } catch (RuntimeException e) {
+            activeSlots.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void returnSlot(String clientKey) {
+        activeSlots.decrementAndGet();
+        holdsByClient.computeIfPresent(clientKey, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        tokens.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void publish(Hold hold, boolean active) {
+        eventPublisher.publishEvent(new RoomHoldChangedEvent(hold.getHoldKey(), hold.getRoomId(), hold.getCity(),
+                hold.getCheckInDate(), hold.getCheckOutDate(), active));
+    }
+
+    private BookingHoldDto toDto(Hold hold) {
+        return BookingHoldDto.builder()
+                .holdId(hold.getHoldId())
+                .roomId(hold.getRoomId())
+                .checkInDate(hold.getCheckInDate())
+                .checkOutDate(hold.getCheckOutDate())
+                .totalPrice(hold.getTotalPrice())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+
+    private String cityOf(Room room) {
+        Hotel hotel = room.getRoomType() != null ? room.getRoomType().getHotel() : null;
+        return hotel != null ? hotel.getCity() : null;
+    }
+
+    @Getter
+    public static final class Hold {
+        private final String holdId;
+        @Getter(AccessLevel.NONE)
+        private final String token;
+        private final String clientKey;
+        private final long holdKey;
+        private final Long roomId;
+        private final String city;
+        private final GuestBookingRequestDto request;
+        private final BigDecimal totalPrice;
+        private final Instant expiresAt;
+        @Getter(AccessLevel.NONE)
+        private volatile HierarchicalTimingWheel.Timeout<String> timeout;
+
+        Hold(String holdId, String token, String clientKey, long holdKey, Long roomId, String city,
+             GuestBookingRequestDto request, BigDecimal totalPrice, Instant expiresAt) {
+            this.holdId = holdId;
+            this.token = token;
+            this.clientKey = clientKey;
+            this.holdKey = holdKey;
+            this.roomId = roomId;
+            this.city = city;
+            this.request = request;
+            this.totalPrice = totalPrice;
+            this.expiresAt = expiresAt;
+        }
+
+        public LocalDate getCheckInDate() {
+            return request.getCheckInDate();
+        }
+
+        public LocalDate getCheckOutDate() {
+            return request.getCheckOutDate();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.JobCheckpoint;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.JobCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Moves overdue bookings on without waiting for the front desk: confirmed bookings whose
+ * check-in day has passed become NO_SHOW, and checked-in bookings whose check-out day has passed
+ * become CHECKED_OUT. Both go through the regular bulk status path; rooms need no update since
+ * occupancy is derived from bookings.
+ *
+ * Each pass walks the matching ids in keyset chunks. The id scan takes no locks; every chunk is
+ * then locked, re-checked and updated in its own short transaction together with the checkpoint,
+ * so a restart resumes after the last finished chunk and the front desk never waits on more than
+ * one chunk.
+ */
+@Component
+public class BookingLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLifecycleJob.class);
+
+    static final String NO_SHOW_JOB = "booking-no-show";
+    static final String AUTO_CHECK_OUT_JOB = "booking-auto-check-out";
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BookingLifecycleJob(BookingService bookingService, BookingRepository bookingRepository,
+                               JobCheckpointRepository checkpointRepository, TransactionTemplate transactionTemplate,
+                               @Value("${booking.lifecycle.chunk-size:200}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("booking.lifecycle.chunk-size must be positive");
+        }
+        this.bookingService = bookingService;
+        this.bookingRepository = bookingRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${booking.lifecycle.cron:0 */15 * * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        try {
+            int noShows = process(NO_SHOW_JOB, BookingStatus.CONFIRMED, BookingStatus.NO_SHOW,
+                    (afterId, limit) -> bookingRepository.findIdsByStatusAndCheckInBefore(
+                            BookingStatus.CONFIRMED, today, afterId, limit));
+            int checkedOut = process(AUTO_CHECK_OUT_JOB, BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT,
+                    (afterId, limit) -> bookingRepository.findIdsByStatusAndCheckOutBefore(
+                            BookingStatus.CHECKED_IN, today, afterId, limit));
+            if (noShows > 0 || checkedOut > 0) {
+                log.info("Booking lifecycle: {} no-shows, {} automatic check-outs", noShows, checkedOut);
+            }
+        } catch (RuntimeException e) {
+            // Finished chunks are checkpointed, so the next run resumes after the last of them.
+            log.warn("Booking lifecycle job failed", e);
+        }
+    }
+
+    /**
+     * Runs one pass from the job's checkpoint to the end and returns how many bookings it moved.
+     */
+    int process(String jobName, BookingStatus fromStatus, BookingStatus toStatus,
+                BiFunction<Long, Pageable, List<Long>> nextChunk) {
+        long afterId = checkpointRepository.findById(jobName).map(JobCheckpoint::getLastId).orElse(0L);
+        Pageable limit = PageRequest.of(0, chunkSize);
+        int moved = 0;
+
+        while (true) {
+            List<Long> ids = nextChunk.apply(afterId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long lastId = ids.get(ids.size() - 1);
+
+            // currentStatus makes the update skip bookings someone else moved after the scan.
+            BulkStatusUpdateRequestDto request = new BulkStatusUpdateRequestDto(toStatus, ids, fromStatus, null, null);
+            Integer updated = transactionTemplate.execute(tx -> {
+                int count = bookingService.updateStatuses(request).getUpdated();
+                checkpointRepository.save(new JobCheckpoint(jobName, lastId, null));
+                return count;
+            });
+            moved += updated == null ? 0 : updated;
+            afterId = lastId;
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+
+        checkpointRepository.save(new JobCheckpoint(jobName, 0L, null));
+        return moved;
+    }
+}
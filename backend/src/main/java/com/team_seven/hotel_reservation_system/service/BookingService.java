@@ -2,13 +2,24 @@ package com.team_seven.hotel_reservation_system.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import com.team_seven.hotel_reservation_system.dto.BookingListCriteria;
+import com.team_seven.hotel_reservation_system.dto.BookingListPageDto;
+import com.team_seven.hotel_reservation_system.dto.BookingSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRequestDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingResultDto;
 import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
 import com.team_seven.hotel_reservation_system.models.Booking;
 import java.util.List;
 
 public interface BookingService {
     Booking createBooking(GuestBookingRequestDto dto);
-    Page<Booking> getBookings(String statusFilter, Pageable pageable);
+    GroupBookingResultDto createGroupBooking(GroupBookingRequestDto dto);
+    Booking confirmHold(String holdId, String holdToken);
+    Page<BookingSummaryDto> getBookings(String statusFilter, Pageable pageable);
+    BookingListPageDto getBookingsPage(BookingListCriteria criteria);
     Booking updateStatus(Long id, String status);
-    List<Booking> getBookingsByCurrentUser(String userEmail);
+    BulkStatusUpdateResultDto updateStatuses(BulkStatusUpdateRequestDto dto);
+    List<BookingSummaryDto> getBookingsByCurrentUser(String userEmail);
 }
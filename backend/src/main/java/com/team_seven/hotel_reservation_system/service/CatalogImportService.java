@@ -0,0 +1,442 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportErrorDto;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportFormat;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportResultDto;
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomsImportedEvent;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.CatalogImportRepository;
+import com.team_seven.hotel_reservation_system.util.CsvRecordReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates hotels, room types and rooms in bulk from a CSV or NDJSON stream, for onboarding a whole
+ * chain in one request.
+ *
+ * Every row has a {@code type} of {@code hotel}, {@code roomType} or {@code room} and otherwise the
+ * same fields as the create endpoints. A row can give itself a {@code ref}; later rows point at it
+ * with {@code hotelRef} or {@code roomTypeRef}, or at an existing row with {@code hotelId} or
+ * {@code roomTypeId}. References are resolved in memory: ids are allocated from the sequences up
+ * front (see {@link CatalogImportRepository}), so a room type knows its hotel's id before either is
+ * written. Rows are buffered and inserted {@code catalog.import.batch-size} at a time in JDBC
+ * batches, parents first.
+ *
+ * A row that fails validation is skipped and reported with its line; rows referring to it are then
+ * reported as unresolved. The rest is imported in one transaction, so a failing batch rolls back
+ * the whole import.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportService.class);
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MIN_ID_BLOCK = 16;
+
+    private static final Set<String> FIELDS = Set.of(
+        "type", "ref", "name", "address", "city", "phoneNumber", "description", "imageUrl", "rating",
+        "hotelRef", "hotelId", "pricePerNight", "capacity", "roomTypeRef", "roomTypeId", "roomNumber", "status");
+
+    private final CatalogImportRepository importRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    @Autowired
+    public CatalogImportService(CatalogImportRepository importRepository, ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${catalog.import.batch-size:1000}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("catalog.import.batch-size must be positive");
+        }
+        this.importRepository = importRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public CatalogImportResultDto importCatalog(InputStream in, CatalogImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        ImportRun run = new ImportRun();
+        if (format == CatalogImportFormat.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.flush();
+
+        if (run.created() > 0) {
+            if (!run.importedRooms.isEmpty()) {
+                eventPublisher.publishEvent(new RoomsImportedEvent(run.importedRooms));
+            }
+            // A null city reaches every city the import touched with a single event.
+            eventPublisher.publishEvent(new RoomCatalogChangedEvent(null));
+        }
+
+        long elapsedMillis = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        log.info("Catalog import: {} rows ({} hotels, {} room types, {} rooms, {} rejected) in {} ms",
+                run.rows, run.hotels, run.roomTypes, run.roomCount, run.rejected, elapsedMillis);
+        return CatalogImportResultDto.builder()
+                .rows(run.rows)
+                .hotelsCreated(run.hotels)
+                .roomTypesCreated(run.roomTypes)
+                .roomsCreated(run.roomCount)
+                .rejected(run.rejected)
+                .batches(run.batches)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(run.rows * 1000.0 / elapsedMillis)
+                .errors(run.errors)
+                .errorsTruncated(run.rejected > run.errors.size())
+                .build();
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = new ArrayList<>();
+        for (String column : header) {
+            String name = column.trim();
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown import column: " + name);
+            }
+            columns.add(name);
+        }
+
+        while (true) {
+            List<String> record;
+            try {
+                record = csv.next();
+            } catch (IllegalArgumentException e) {
+                // The rest of the input was swallowed by the open quote, so nothing more can be read.
+                run.unreadable(csv.getRecordLine(), e.getMessage());
+                return;
+            }
+            if (record == null) {
+                return;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() != columns.size()) {
+                run.unreadable(csv.getRecordLine(),
+                        "Expected " + columns.size() + " fields but found " + record.size());
+                continue;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i), record.get(i));
+            }
+            run.accept(csv.getRecordLine(), row);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                run.unreadable(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (!node.isObject()) {
+                run.unreadable(lineNumber, "Each line must be a JSON object");
+                continue;
+            }
+            Map<String, String> row = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                row.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText());
+            }
+            run.accept(lineNumber, row);
+        }
+    }
+
+    /**
+     * State of one import: pending rows, ids handed out so far and what every ref resolved to.
+     */
+    private final class ImportRun {
+        private final Set<Long> existingHotelIds = new HashSet<>(importRepository.findHotelIds());
+        private final Set<Long> existingRoomTypeIds = new HashSet<>(importRepository.findRoomTypeIds());
+        private final Map<String, Long> hotelRefs = new HashMap<>();
+        private final Map<String, Long> roomTypeRefs = new HashMap<>();
+        private final Map<String, Deque<Long>> freeIds = new HashMap<>();
+        private final Map<String, Integer> allocatedIds = new HashMap<>();
+
+        private final List<Hotel> pendingHotels = new ArrayList<>();
+        private final List<RoomType> pendingRoomTypes = new ArrayList<>();
+        private final List<Room> pendingRooms = new ArrayList<>();
+        private final List<IndexedRoomDto> importedRooms = new ArrayList<>();
+        private final List<CatalogImportErrorDto> errors = new ArrayList<>();
+
+        private long rows;
+        private long hotels;
+        private long roomTypes;
+        private long roomCount;
+        private long rejected;
+        private int batches;
+        // Input lines of the rows waiting in the buffers, so a failed batch can be traced to them.
+        private long firstPendingLine;
+        private long lastPendingLine;
+
+        long created() {
+            return hotels + roomTypes + roomCount;
+        }
+
+        void accept(long line, Map<String, String> row) {
+            rows++;
+            try {
+                for (String field : row.keySet()) {
+                    if (!FIELDS.contains(field)) {
+                        throw new IllegalArgumentException("Unknown field: " + field);
+                    }
+                }
+                String type = text(row, "type", 20, true);
+                switch (type) {
+                    case "hotel" -> addHotel(row);
+                    case "roomType" -> addRoomType(row);
+                    case "room" -> addRoom(row);
+                    default -> throw new IllegalArgumentException(
+                            "type must be one of hotel, roomType or room, got: " + type);
+                }
+            } catch (IllegalArgumentException e) {
+                reject(line, row.get("type"), row.get("ref"), e.getMessage());
+                return;
+            }
+            if (firstPendingLine == 0) {
+                firstPendingLine = line;
+            }
+            lastPendingLine = line;
+            if (pendingHotels.size() + pendingRoomTypes.size() + pendingRooms.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        // A line that could not even be read as a row.
+        void unreadable(long line, String message) {
+            rows++;
+            reject(line, null, null, message);
+        }
+
+        private void reject(long line, String type, String ref, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CatalogImportErrorDto(line, type, ref, message));
+            }
+        }
+
+        // Parents go first so every foreign key already points at an inserted row.
+        void flush() {
+            if (pendingHotels.isEmpty() && pendingRoomTypes.isEmpty() && pendingRooms.isEmpty()) {
+                return;
+            }
+            try {
+                importRepository.insertHotels(pendingHotels);
+                importRepository.insertRoomTypes(pendingRoomTypes);
+                importRepository.insertRooms(pendingRooms);
+            } catch (RuntimeException e) {
+                log.warn("Catalog import batch {} (lines {}-{}) failed, rolling back the import",
+                        batches + 1, firstPendingLine, lastPendingLine, e);
+                throw e;
+            }
+            pendingHotels.clear();
+            pendingRoomTypes.clear();
+            pendingRooms.clear();
+            firstPendingLine = 0;
+            batches++;
+        }
+
+        private void addHotel(Map<String, String> row) {
+            String ref = newRef(row, hotelRefs);
+            Hotel hotel = new Hotel();
+            hotel.setName(text(row, "name", 255, true));
+            hotel.setAddress(text(row, "address", 255, false));
+            hotel.setCity(text(row, "city", 100, false));
+            hotel.setPhoneNumber(text(row, "phoneNumber", 20, false));
+            hotel.setDescription(text(row, "description", Integer.MAX_VALUE, false));
+            hotel.setImageUrl(text(row, "imageUrl", 255, false));
+            hotel.setRating(decimal(row, "rating", new BigDecimal("99.9"), false));
+            hotel.setId(nextId(CatalogImportRepository.HOTEL_SEQUENCE));
+
+            if (ref != null) {
+                hotelRefs.put(ref, hotel.getId());
+            }
+            pendingHotels.add(hotel);
+            hotels++;
+        }
+
+        private void addRoomType(Map<String, String> row) {
+            String ref = newRef(row, roomTypeRefs);
+            Long hotelId = reference(row, "hotelRef", hotelRefs, "hotelId", existingHotelIds);
+            Hotel hotel = new Hotel();
+            hotel.setId(hotelId);
+            RoomType roomType = RoomType.builder()
+                    .hotel(hotel)
+                    .name(text(row, "name", 100, true))
+                    .imageUrl(text(row, "imageUrl", 255, false))
+                    .description(text(row, "description", Integer.MAX_VALUE, false))
+                    .pricePerNight(decimal(row, "pricePerNight", new BigDecimal("99999999.99"), true))
+                    .capacity(positiveInt(row, "capacity"))
+                    .build();
+            roomType.setId(nextId(CatalogImportRepository.ROOM_TYPE_SEQUENCE));
+
+            if (ref != null) {
+                roomTypeRefs.put(ref, roomType.getId());
+            }
+            pendingRoomTypes.add(roomType);
+            roomTypes++;
+        }
+
+        private void addRoom(Map<String, String> row) {
+            Long roomTypeId = reference(row, "roomTypeRef", roomTypeRefs, "roomTypeId", existingRoomTypeIds);
+            String status = text(row, "status", 20, false);
+            RoomType roomType = RoomType.builder().id(roomTypeId).build();
+            Room room = Room.builder()
+                    .roomType(roomType)
+                    .roomNumber(text(row, "roomNumber", 20, true))
+                    .status(status == null ? RoomStatus.AVAILABLE : RoomStatus.parse(status))
+                    .build();
+            room.setId(nextId(CatalogImportRepository.ROOM_SEQUENCE));
+
+            pendingRooms.add(room);
+            importedRooms.add(new IndexedRoomDto(room.getId(), roomTypeId, room.getStatus()));
+            roomCount++;
+        }
+
+        private String newRef(Map<String, String> row, Map<String, Long> refs) {
+            String ref = text(row, "ref", 100, false);
+            if (ref != null && refs.containsKey(ref)) {
+                throw new IllegalArgumentException("Duplicate ref: " + ref);
+            }
+            return ref;
+        }
+
+        // Exactly one of a ref from this import or the id of an existing row.
+        private Long reference(Map<String, String> row, String refField, Map<String, Long> refs,
+                               String idField, Set<Long> existingIds) {
+            String ref = text(row, refField, 100, false);
+            String id = text(row, idField, 20, false);
+            if ((ref == null) == (id == null)) {
+                throw new IllegalArgumentException("Give exactly one of " + refField + " or " + idField);
+            }
+            if (ref != null) {
+                Long resolved = refs.get(ref);
+                if (resolved == null) {
+                    throw new IllegalArgumentException("Unknown " + refField + ": " + ref);
+                }
+                return resolved;
+            }
+            Long existing;
+            try {
+                existing = Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(idField + " is not a number: " + id);
+            }
+            if (!existingIds.contains(existing)) {
+                throw new IllegalArgumentException("No existing row with " + idField + " " + existing);
+            }
+            return existing;
+        }
+
+        // Blocks start small and double up to the batch size, so a small import leaves no big gap
+        // of unused ids behind while a large one still needs one query per batch.
+        private Long nextId(String sequence) {
+            Deque<Long> ids = freeIds.computeIfAbsent(sequence, s -> new ArrayDeque<>());
+            if (ids.isEmpty()) {
+                int allocated = allocatedIds.getOrDefault(sequence, 0);
+                int block = Math.min(batchSize, Math.max(MIN_ID_BLOCK, allocated));
+                ids.addAll(importRepository.allocateIds(sequence, block));
+                allocatedIds.put(sequence, allocated + block);
+            }
+            return ids.removeFirst();
+        }
+    }
+
+    // Blank counts as missing, as an empty CSV cell cannot be told apart from an absent value.
+    private static String text(Map<String, String> row, String field, int maxLength, boolean required) {
+        String value = row.get(field);
+        if (value == null || value.isBlank()) {
+            if (required) {
+                throw new IllegalArgumentException(field + " is required");
+            }
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(field + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static BigDecimal decimal(Map<String, String> row, String field, BigDecimal max, boolean required) {
+        String value = text(row, field, 20, required);
+        if (value == null) {
+            return null;
+        }
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a number: " + value);
+        }
+        if (number.signum() < 0 || number.compareTo(max) > 0) {
+            throw new IllegalArgumentException(field + " must be between 0 and " + max.toPlainString());
+        }
+        return number;
+    }
+
+    private static int positiveInt(Map<String, String> row, String field) {
+        String value = text(row, field, 10, true);
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(field + " must be a positive whole number: " + value);
+    }
+}
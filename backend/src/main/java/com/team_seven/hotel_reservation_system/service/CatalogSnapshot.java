@@ -0,0 +1,161 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory copy of the public catalog lists (all hotels, top-rated hotels, all room types),
+ * already serialized to JSON.
+ *
+ * A snapshot is never modified: a transaction that changes hotels or room types builds one
+ * complete new snapshot after it commits, however many changes it made, and swaps it in with a
+ * single reference write, so readers always see one consistent version without locking. Room
+ * edits do not show in any of the lists and leave the snapshot alone.
+ *
+ * Each view carries a strong ETag derived from its bytes; the controllers return it with the
+ * body, and Spring answers a matching If-None-Match with a 304 before anything is written. A
+ * rebuild that yields the same bytes keeps the same ETag, so clients only download again when
+ * what they would see has changed.
+ */
+@Component
+public class CatalogSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshot.class);
+
+    private final HotelService hotelService;
+    private final RoomTypeService roomTypeService;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final TransactionSynchronization rebuildAfterCommit = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            rebuildOrDrop();
+        }
+    };
+    private long version;
+
+    public CatalogSnapshot(HotelService hotelService, RoomTypeService roomTypeService, ObjectMapper objectMapper) {
+        this.hotelService = hotelService;
+        this.roomTypeService = roomTypeService;
+        this.objectMapper = objectMapper;
+    }
+
+    public View hotels() {
+        return snapshot().hotels;
+    }
+
+    public View topRatedHotels() {
+        return snapshot().topRatedHotels;
+    }
+
+    public View roomTypes() {
+        return snapshot().roomTypes;
+    }
+
+    public long version() {
+        return snapshot().version;
+    }
+
+    @EventListener
+    public void onRoomCatalogChanged(RoomCatalogChangedEvent event) {
+        if (event.isRoomChange()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildOrDrop();
+            return;
+        }
+        if (!TransactionSynchronizationManager.getSynchronizations().contains(rebuildAfterCommit)) {
+            TransactionSynchronizationManager.registerSynchronization(rebuildAfterCommit);
+        }
+    }
+
+    // A failed rebuild drops the snapshot so the next read loads fresh data instead of serving stale lists.
+    private void rebuildOrDrop() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            current.set(null);
+            log.warn("Error rebuilding catalog snapshot, the next read loads it again", e);
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    // Rebuilds run one at a time, so the last one to finish has also read the newest data.
+    private synchronized Snapshot rebuild() {
+        Snapshot snapshot = new Snapshot(++version,
+                view(hotelService.getAll()),
+                view(hotelService.getTopRated()),
+                view(roomTypeService.getAll(null)));
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private View view(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new View(json, "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not serialize catalog view", e);
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final View hotels;
+        private final View topRatedHotels;
+        private final View roomTypes;
+
+        private Snapshot(long version, View hotels, View topRatedHotels, View roomTypes) {
+            this.version = version;
+            this.hotels = hotels;
+            this.topRatedHotels = topRatedHotels;
+            this.roomTypes = roomTypes;
+        }
+    }
+
+    public static final class View {
+        private final byte[] json;
+        private final String etag;
+
+        private View(byte[] json, String etag) {
+            this.json = json;
+            this.etag = etag;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * The view as a 200 response; clients must revalidate, and an If-None-Match hit becomes a 304.
+         */
+        public ResponseEntity<byte[]> toResponse() {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(json);
+        }
+    }
+}
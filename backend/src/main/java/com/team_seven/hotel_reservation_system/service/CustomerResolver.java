@@ -0,0 +1,81 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.CacheStatsDto;
+import com.team_seven.hotel_reservation_system.dto.CustomerResolutionStatsDto;
+import com.team_seven.hotel_reservation_system.repositories.CustomerUpsertRepository;
+import com.team_seven.hotel_reservation_system.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns a guest email into a customer id for the booking path.
+ *
+ * Repeat guests are answered from a bounded email to id cache without touching the database;
+ * everyone else costs one upsert. Customers are never deleted, so a cached id cannot go stale;
+ * a new customer's id is only cached once the transaction that created it has committed.
+ */
+@Component
+public class CustomerResolver {
+
+    private final CustomerUpsertRepository customerUpsertRepository;
+    private final BoundedTtlCache<String, Long> idsByEmail;
+
+    private final LongAdder upserts = new LongAdder();
+    private final LongAdder upsertNanos = new LongAdder();
+    private final AtomicLong maxUpsertNanos = new AtomicLong();
+
+    public CustomerResolver(CustomerUpsertRepository customerUpsertRepository,
+                            @Value("${customer.cache.max-entries:10000}") int maxEntries,
+                            @Value("${customer.cache.ttl:1h}") Duration ttl) {
+        this.customerUpsertRepository = customerUpsertRepository;
+        this.idsByEmail = new BoundedTtlCache<>(maxEntries, ttl);
+    }
+
+    public Long resolveId(String email, String firstName, String lastName, String phoneNumber) {
+        Long cached = idsByEmail.get(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Long id = customerUpsertRepository.upsertByEmail(email, firstName, lastName, phoneNumber);
+        long elapsed = System.nanoTime() - start;
+        upserts.increment();
+        upsertNanos.add(elapsed);
+        maxUpsertNanos.accumulateAndGet(elapsed, Math::max);
+
+        cacheAfterCommit(email, id);
+        return id;
+    }
+
+    // A customer created by a transaction that rolls back is gone again, so its id is only cached
+    // once the row is known to exist. Outside a transaction the upsert has committed already.
+    private void cacheAfterCommit(String email, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idsByEmail.put(email, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idsByEmail.put(email, id);
+            }
+        });
+    }
+
+    public CustomerResolutionStatsDto getStats() {
+        long count = upserts.sum();
+        return CustomerResolutionStatsDto.builder()
+                .cache(CacheStatsDto.from(idsByEmail))
+                .upserts(count)
+                .averageUpsertMillis(count == 0 ? 0.0 : upsertNanos.sum() / 1_000_000.0 / count)
+                .maxUpsertMillis(maxUpsertNanos.get() / 1_000_000.0)
+                .build();
+    }
+}
@@ -0,0 +1,255 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.DashboardSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.HotelDayStatsDto;
+import com.team_seven.hotel_reservation_system.dto.HotelRoomCountDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.HotelDailyStats;
+import com.team_seven.hotel_reservation_system.repositories.HotelDailyStatsRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Occupancy and revenue per hotel and night, read from the {@link HotelDailyStats} counters.
+ *
+ * Counters move with every booking event, so a dashboard read touches days x hotels rows instead
+ * of the bookings table. Every booking of a hotel and night lands on the same counter row, so the
+ * deltas are not written inside the booking: once it commits they are queued to a single
+ * background thread that applies them one short transaction at a time. Booking threads never
+ * wait for a counter row or for a second pool connection while they still hold their own and
+ * their room's lock stripe, and the one writer never contends with itself.
+ *
+ * A delta dropped because the queue is full, lost to a crash before it ran, or one that lands on
+ * a night while it is being rebuilt, leaves the counters off until {@link #reconcile()}
+ * recomputes them from bookings, as it does for rows changed by hand.
+ */
+@Service
+public class DashboardService {
+
+    // Nights that were, are or will be spent in the room, and so count as occupied and earned.
+    public static final Set<BookingStatus> OCCUPYING_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT, BookingStatus.COMPLETED));
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final int MAX_DAYS = 366;
+
+    private final HotelDailyStatsRepository statsRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transaction;
+    private final Executor deltaExecutor;
+
+    @Autowired
+    public DashboardService(HotelDailyStatsRepository statsRepository, RoomRepository roomRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${dashboard.delta.queue-capacity:10000}") int queueCapacity) {
+        this(statsRepository, roomRepository, transactionTemplate, newDeltaExecutor(queueCapacity));
+    }
+
+    DashboardService(HotelDailyStatsRepository statsRepository, RoomRepository roomRepository,
+                     TransactionTemplate transactionTemplate, Executor deltaExecutor) {
+        this.statsRepository = statsRepository;
+        this.roomRepository = roomRepository;
+        this.transaction = transactionTemplate;
+        this.deltaExecutor = deltaExecutor;
+    }
+
+    private static ExecutorService newDeltaExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-counters");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // Lets queued deltas finish while the repositories are still around.
+    @PreDestroy
+    void stopDeltaExecutor() throws InterruptedException {
+        if (deltaExecutor instanceof ExecutorService executor) {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.getBookingId() == null || event.getStatus() == event.getPreviousStatus()) {
+            return;
+        }
+        try {
+            deltaExecutor.execute(() -> applyDeltas(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard counters not updated for booking {}: delta queue is full", event.getBookingId(), e);
+        }
+    }
+
+    private void applyDeltas(BookingStatusChangedEvent event) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (event.getPreviousStatus() != null) {
+                    statsRepository.addBookingNights(event.getBookingId(), event.getPreviousStatus().getCode(), -1);
+                }
+                if (event.getStatus() != null) {
+                    statsRepository.addBookingNights(event.getBookingId(), event.getStatus().getCode(), 1);
+                }
+            });
+        } catch (RuntimeException e) {
+            // The booking has committed already; the next reconcile puts its nights right.
+            log.warn("Dashboard counters not updated for booking {}", event.getBookingId(), e);
+        }
+    }
+
+    /**
+     * Recomputes the counters from bookings one calendar month at a time, each month in its own
+     * transaction. Only the month being rebuilt is locked, so bookings for other nights never wait,
+     * and those for that month wait for one month's rows rather than the whole history.
+     */
+    @Scheduled(cron = "${dashboard.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        LocalDate first = earliest(statsRepository.findFirstStayDate(), statsRepository.findFirstCheckInDate());
+        LocalDate last = latest(statsRepository.findLastStayDate(), statsRepository.findLastCheckOutDate());
+        if (first == null) {
+            return;
+        }
+        int rows = 0;
+        for (YearMonth month = YearMonth.from(first); !month.isAfter(YearMonth.from(last)); month = month.plusMonths(1)) {
+            try {
+                rows += rebuildMonth(month);
+            } catch (RuntimeException e) {
+                log.warn("Dashboard rebuild failed for {}", month, e);
+            }
+        }
+        log.info("Dashboard counters rebuilt from bookings: {} rows", rows);
+    }
+
+    int rebuildMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        return transaction.execute(status -> {
+            statsRepository.deleteNights(from, to);
+            return statsRepository.insertNightsFromBookings(from, to);
+        });
+    }
+
+    /**
+     * Per hotel and night in [from, to], one row for every hotel with rooms, plus range totals.
+     */
+    @Transactional(readOnly = true)
+    public DashboardSummaryDto getSummary(LocalDate from, LocalDate to, Long hotelId) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Dashboard range needs a 'from' date on or before its 'to' date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Dashboard range can cover at most " + MAX_DAYS + " days");
+        }
+
+        Map<Long, Long> roomsByHotel = new TreeMap<>();
+        for (HotelRoomCountDto count : roomRepository.countRoomsByHotel()) {
+            if (hotelId == null || hotelId.equals(count.getHotelId())) {
+                roomsByHotel.put(count.getHotelId(), count.getRooms());
+            }
+        }
+        List<HotelDailyStats> rows = hotelId == null
+                ? statsRepository.findByStayDateBetweenOrderByHotelIdAscStayDateAsc(from, to)
+                : statsRepository.findByHotelIdAndStayDateBetweenOrderByStayDate(hotelId, from, to);
+        Map<Long, Map<LocalDate, List<HotelDailyStats>>> rowsByHotelAndDay = new HashMap<>();
+        for (HotelDailyStats row : rows) {
+            rowsByHotelAndDay.computeIfAbsent(row.getHotelId(), id -> new HashMap<>())
+                    .computeIfAbsent(row.getStayDate(), date -> new ArrayList<>())
+                    .add(row);
+        }
+
+        List<HotelDayStatsDto> days = new ArrayList<>();
+        long occupiedTotal = 0;
+        long availableTotal = 0;
+        BigDecimal revenueTotal = BigDecimal.ZERO;
+        for (Map.Entry<Long, Long> hotel : roomsByHotel.entrySet()) {
+            Map<LocalDate, List<HotelDailyStats>> hotelRows = rowsByHotelAndDay.getOrDefault(hotel.getKey(), Map.of());
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                HotelDayStatsDto day = toDay(hotel.getKey(), hotel.getValue(), date, hotelRows.getOrDefault(date, List.of()));
+                days.add(day);
+                occupiedTotal += day.getOccupiedRooms();
+                availableTotal += day.getTotalRooms();
+                revenueTotal = revenueTotal.add(day.getRevenue());
+            }
+        }
+
+        return DashboardSummaryDto.builder()
+                .from(from)
+                .to(to)
+                .occupiedRoomNights(occupiedTotal)
+                .availableRoomNights(availableTotal)
+                .occupancyRate(rate(occupiedTotal, availableTotal))
+                .revenue(revenueTotal)
+                .days(days)
+                .build();
+    }
+
+    private HotelDayStatsDto toDay(Long hotelId, long totalRooms, LocalDate date, List<HotelDailyStats> rows) {
+        Map<BookingStatus, Long> nightsByStatus = new EnumMap<>(BookingStatus.class);
+        long occupied = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (HotelDailyStats row : rows) {
+            if (row.getRoomNights() == 0) {
+                continue;
+            }
+            nightsByStatus.put(row.getStatus(), row.getRoomNights().longValue());
+            if (OCCUPYING_STATUSES.contains(row.getStatus())) {
+                occupied += row.getRoomNights();
+                revenue = revenue.add(row.getRevenue());
+            }
+        }
+        return HotelDayStatsDto.builder()
+                .hotelId(hotelId)
+                .date(date)
+                .totalRooms(totalRooms)
+                .occupiedRooms(occupied)
+                .occupancyRate(rate(occupied, totalRooms))
+                .revenue(revenue.setScale(2, RoundingMode.HALF_UP))
+                .roomNightsByStatus(nightsByStatus)
+                .build();
+    }
+
+    private static LocalDate earliest(LocalDate a, LocalDate b) {
+        return a == null || (b != null && b.isBefore(a)) ? b : a;
+    }
+
+    private static LocalDate latest(LocalDate a, LocalDate b) {
+        return a == null || (b != null && b.isAfter(a)) ? b : a;
+    }
+
+    private static double rate(long occupied, long total) {
+        return total == 0 ? 0.0 : (double) occupied / total;
+    }
+}
@@ -1,9 +1,11 @@
 package com.team_seven.hotel_reservation_system.service;
 
 import com.team_seven.hotel_reservation_system.dto.HotelDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
 import com.team_seven.hotel_reservation_system.models.Hotel;
 import com.team_seven.hotel_reservation_system.repositories.HotelRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +18,12 @@ import java.util.stream.Collectors;
 public class HotelService {
 
     private final HotelRepository hotelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public HotelService(HotelRepository hotelRepository) {
+    public HotelService(HotelRepository hotelRepository, ApplicationEventPublisher eventPublisher) {
         this.hotelRepository = hotelRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<HotelDto> getAll() {
@@ -60,6 +64,7 @@ public class HotelService {
         hotel.setRating(dto.getRating());
 
         Hotel saved = hotelRepository.save(hotel);
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(saved.getCity()));
         return toDto(saved);
     }
 
@@ -67,6 +72,7 @@ public class HotelService {
     public HotelDto update(Long id, HotelDto dto) {
         Hotel hotel = hotelRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Hotel not found with id: " + id));
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(hotel.getCity()));
 
         hotel.setName(dto.getName());
         hotel.setAddress(dto.getAddress());
@@ -77,15 +83,16 @@ public class HotelService {
         hotel.setRating(dto.getRating());
 
         Hotel updated = hotelRepository.save(hotel);
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(updated.getCity()));
         return toDto(updated);
     }
 
     @Transactional
     public void delete(Long id) {
-        if (!hotelRepository.existsById(id)) {
-            throw new RuntimeException("Hotel not found with id: " + id);
-        }
-        hotelRepository.deleteById(id);
+        Hotel hotel = hotelRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Hotel not found with id: " + id));
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(hotel.getCity()));
+        hotelRepository.delete(hotel);
     }
 
 
@@ -0,0 +1,106 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.CacheStatsDto;
+import com.team_seven.hotel_reservation_system.exception.IdempotencyKeyMismatchException;
+import com.team_seven.hotel_reservation_system.exception.IdempotentRequestInProgressException;
+import com.team_seven.hotel_reservation_system.util.BoundedTtlCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of requests sent with an {@code Idempotency-Key} header, so a client retry
+ * gets the original result back instead of running the request again.
+ *
+ * The first request for a key registers an in-flight future before it runs; duplicates that arrive
+ * meanwhile wait on that future. Only successful results are kept: a failed request is forgotten so
+ * the client can retry it. Entries are bounded and expire after {@code idempotency.ttl}.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final BoundedTtlCache<String, Record> records;
+    private final Duration waitTimeout;
+
+    public IdempotencyStore(
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl:24h}") Duration ttl,
+            @Value("${idempotency.wait-timeout:30s}") Duration waitTimeout) {
+        this.records = new BoundedTtlCache<>(maxEntries, ttl);
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Runs {@code action} once per {@code scope} and {@code key}. {@code request} is compared with
+     * equals() to detect a key reused for a different request.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Outcome<T> execute(String scope, String key, Object request, Supplier<T> action) {
+        String scopedKey = scope + " " + key;
+        Record mine = new Record(request, new CompletableFuture<>());
+        Record existing = records.putIfAbsent(scopedKey, mine);
+
+        if (existing != null) {
+            if (!Objects.equals(existing.request, request)) {
+                throw new IdempotencyKeyMismatchException(key);
+            }
+            return new Outcome<>((T) await(existing.result, key), true);
+        }
+
+        try {
+            T result = action.get();
+            mine.result.complete(result);
+            return new Outcome<>(result, false);
+        } catch (RuntimeException | Error e) {
+            records.remove(scopedKey);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public CacheStatsDto getStats() {
+        return CacheStatsDto.from(records);
+    }
+
+    private Object await(CompletableFuture<Object> result, String key) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Outcome<T> {
+        private final T value;
+        private final boolean replayed;
+    }
+
+    private static final class Record {
+        private final Object request;
+        private final CompletableFuture<Object> result;
+
+        private Record(Object request, CompletableFuture<Object> result) {
+            this.request = request;
+            this.result = result;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.team_seven.hotel_reservation_system.service;
 
+import com.team_seven.hotel_reservation_system.dto.FlexibleDateOptionDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchCriteria;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchPageDto;
 import com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -11,4 +15,21 @@ public interface PublicRoomService {
         LocalDate checkOutDate,
         int guestCapacity
     );
+
+    List<RoomTypeAvailabilityDto> findAvailableRoomTypes(
+        String city,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int guestCapacity
+    );
+
+    RoomSearchPageDto findAvailableRoomsPage(RoomSearchCriteria criteria);
+
+    List<FlexibleDateOptionDto> findFlexibleDates(
+        String city,
+        LocalDate earliestCheckIn,
+        LocalDate latestCheckIn,
+        int nights,
+        int guestCapacity
+    );
 }
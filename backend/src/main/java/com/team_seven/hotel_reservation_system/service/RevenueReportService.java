@@ -0,0 +1,146 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.RevenueReportDto;
+import com.team_seven.hotel_reservation_system.dto.RevenueReportRowDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeRoomCountDto;
+import com.team_seven.hotel_reservation_system.repositories.RevenueReportRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.util.ParallelStayAggregator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Occupancy, ADR and RevPAR per hotel and room type over any date range, for period-end reports.
+ *
+ * Unlike the dashboard this reads bookings directly, so it works for ranges the daily counters
+ * were never kept for. The range is split into date partitions that stream and aggregate their
+ * bookings in parallel on a dedicated fork-join pool (see {@link ParallelStayAggregator}). Each
+ * partition holds one database connection while it streams, so {@code report.parallelism} must
+ * stay well below the connection pool size.
+ */
+@Service
+public class RevenueReportService {
+
+    private static final int MAX_DAYS = 3660;
+
+    private final RevenueReportRepository reportRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool pool;
+    private final ParallelStayAggregator aggregator;
+
+    @Autowired
+    public RevenueReportService(RevenueReportRepository reportRepository, RoomRepository roomRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${report.parallelism:4}") int parallelism,
+                                @Value("${report.partition-days:7}") int partitionDays) {
+        this.reportRepository = reportRepository;
+        this.roomRepository = roomRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pool = new ForkJoinPool(parallelism);
+        this.aggregator = new ParallelStayAggregator(pool, partitionDays);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * One row per room type with rooms and one subtotal row per hotel, for the nights in [from, to].
+     */
+    public RevenueReportDto getRevenueReport(LocalDate from, LocalDate to, Long hotelId) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Report range needs a 'from' date on or before its 'to' date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Report range can cover at most " + MAX_DAYS + " days");
+        }
+        LocalDate toExclusive = to.plusDays(1);
+        long days = ChronoUnit.DAYS.between(from, toExclusive);
+
+        List<RoomTypeRoomCountDto> roomTypes = new ArrayList<>();
+        for (RoomTypeRoomCountDto count : roomRepository.countRoomsByRoomType()) {
+            if (hotelId == null || hotelId.equals(count.getHotelId())) {
+                roomTypes.add(count);
+            }
+        }
+        long[] roomTypeIds = roomTypes.stream().mapToLong(RoomTypeRoomCountDto::getRoomTypeId).toArray();
+
+        ParallelStayAggregator.Totals totals = aggregator.aggregate(roomTypeIds, from, toExclusive,
+                (partitionFrom, partitionTo, consumer) -> readOnlyTransaction.executeWithoutResult(status ->
+                        reportRepository.forEachStay(partitionFrom, partitionTo,
+                                DashboardService.OCCUPYING_STATUSES, hotelId, consumer)));
+
+        List<RevenueReportRowDto> roomTypeRows = new ArrayList<>();
+        Map<Long, RevenueReportRowDto> hotelRows = new LinkedHashMap<>();
+        Map<Long, Long> hotelRevenueMinor = new LinkedHashMap<>();
+        for (RoomTypeRoomCountDto roomType : roomTypes) {
+            long sold = totals.roomNights(roomType.getRoomTypeId());
+            long revenueMinor = totals.revenueMinor(roomType.getRoomTypeId());
+            roomTypeRows.add(toRow(roomType.getHotelId(), roomType.getHotelName(), roomType.getRoomTypeId(),
+                    roomType.getRoomTypeName(), roomType.getRooms(), days, sold, revenueMinor));
+
+            RevenueReportRowDto hotel = hotelRows.computeIfAbsent(roomType.getHotelId(), id -> RevenueReportRowDto.builder()
+                    .hotelId(id)
+                    .hotelName(roomType.getHotelName())
+                    .build());
+            hotel.setRooms(hotel.getRooms() + roomType.getRooms());
+            hotel.setSoldRoomNights(hotel.getSoldRoomNights() + sold);
+            hotelRevenueMinor.merge(roomType.getHotelId(), revenueMinor, Long::sum);
+        }
+
+        List<RevenueReportRowDto> hotels = new ArrayList<>();
+        for (RevenueReportRowDto hotel : hotelRows.values()) {
+            hotels.add(toRow(hotel.getHotelId(), hotel.getHotelName(), null, null, hotel.getRooms(), days,
+                    hotel.getSoldRoomNights(), hotelRevenueMinor.get(hotel.getHotelId())));
+        }
+
+        return RevenueReportDto.builder()
+                .from(from)
+                .to(to)
+                .partitions(aggregator.partitionsFor(from, toExclusive))
+                .hotels(hotels)
+                .roomTypes(roomTypeRows)
+                .build();
+    }
+
+    private static RevenueReportRowDto toRow(Long hotelId, String hotelName, Long roomTypeId, String roomTypeName,
+                                             long rooms, long days, long sold, long revenueMinor) {
+        long available = rooms * days;
+        BigDecimal revenue = BigDecimal.valueOf(revenueMinor, 2);
+        return RevenueReportRowDto.builder()
+                .hotelId(hotelId)
+                .hotelName(hotelName)
+                .roomTypeId(roomTypeId)
+                .roomTypeName(roomTypeName)
+                .rooms(rooms)
+                .availableRoomNights(available)
+                .soldRoomNights(sold)
+                .occupancyRate(available == 0 ? 0.0 : (double) sold / available)
+                .revenue(revenue)
+                .adr(perNight(revenue, sold))
+                .revpar(perNight(revenue, available))
+                .build();
+    }
+
+    private static BigDecimal perNight(BigDecimal revenue, long nights) {
+        return nights == 0
+                ? BigDecimal.ZERO.setScale(2)
+                : revenue.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,411 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
+import com.team_seven.hotel_reservation_system.dto.RoomStayDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomHoldChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomsImportedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory index of booked nights per room.
+ *
+ * Every room keeps a bitset where bit {@code n} is set when the night starting on epoch day
+ * {@code n} is taken by a CONFIRMED or CHECKED_IN booking. A date-range check is a handful of
+ * word-level AND operations instead of a {@code NOT EXISTS} scan over the bookings table.
+ *
+ * Rooms are also grouped by room type, together with whether their status lets them appear in
+ * search at all, so availability per room type is counted here without loading every room.
+ *
+ * The index is built from the database once the application is ready and then kept up to date
+ * from {@link BookingStatusChangedEvent}s, {@link RoomCatalogChangedEvent}s and
+ * {@link RoomsImportedEvent}s after their transaction commits. Checkout holds
+ * ({@link RoomHoldChangedEvent}) block nights the same way as bookings, so every search served
+ * from the index already hides held rooms.
+ */
+@Component
+public class RoomAvailabilityIndex {
+
+    public static final Set<BookingStatus> BLOCKING_STATUSES = BookingStatus.BLOCKING;
+
+    /**
+     * After-commit listeners here run before those of caches built on the index, so a search that
+     * misses an evicted entry reloads from the updated index rather than the stale one.
+     */
+    public static final int LISTENER_ORDER = 0;
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final Map<Long, RoomNights> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> roomsByType = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public RoomAvailabilityIndex(BookingRepository bookingRepository, RoomRepository roomRepository) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    public static boolean isBlocking(BookingStatus status) {
+        return status != null && status.isBlocking();
+    }
+
+    public static boolean isSearchable(RoomStatus roomStatus) {
+        return roomStatus != null && roomStatus.isSearchable();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rooms.clear();
+        roomsByType.clear();
+        for (IndexedRoomDto room : roomRepository.findAllIndexedRooms()) {
+            registerRoom(room.getRoomId(), room.getRoomTypeId(), room.getStatus());
+        }
+        List<RoomStayDto> stays = bookingRepository.findStaysByStatusIn(BLOCKING_STATUSES);
+        for (RoomStayDto stay : stays) {
+            reserve(stay.getRoomId(), stay.getBookingId(), stay.getCheckInDate(), stay.getCheckOutDate());
+        }
+        loaded = true;
+    }
+
+    /**
+     * Until the startup load has finished callers should fall back to the database.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        boolean wasBlocking = isBlocking(event.getPreviousStatus());
+        boolean isBlocking = isBlocking(event.getStatus());
+
+        if (isBlocking && !wasBlocking) {
+            reserve(event.getRoomId(), event.getBookingId(), event.getCheckInDate(), event.getCheckOutDate());
+        } else if (wasBlocking && !isBlocking) {
+            release(event.getRoomId(), event.getBookingId());
+        }
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomCatalogChanged(RoomCatalogChangedEvent event) {
+        if (!event.isRoomChange()) {
+            return;
+        }
+        if (event.getRoomTypeId() == null) {
+            removeRoom(event.getRoomId());
+        } else {
+            registerRoom(event.getRoomId(), event.getRoomTypeId(), event.getRoomStatus());
+        }
+    }
+
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomsImported(RoomsImportedEvent event) {
+        for (IndexedRoomDto room : event.getRooms()) {
+            registerRoom(room.getRoomId(), room.getRoomTypeId(), room.getStatus());
+        }
+    }
+
+    // Runs after rollback too: a hold claimed by a failed confirmation is gone either way. After a
+    // commit the booking that replaced the hold has already been reserved by then.
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onRoomHoldChanged(RoomHoldChangedEvent event) {
+        if (event.isActive()) {
+            reserve(event.getRoomId(), holdStayKey(event.getHoldKey()), event.getCheckInDate(), event.getCheckOutDate());
+        } else {
+            release(event.getRoomId(), holdStayKey(event.getHoldKey()));
+        }
+    }
+
+    public void registerRoom(Long roomId, Long roomTypeId, RoomStatus roomStatus) {
+        RoomNights nights = rooms.computeIfAbsent(roomId, id -> new RoomNights());
+        Long previousType = nights.roomTypeId;
+        if (previousType != null && !previousType.equals(roomTypeId)) {
+            NavigableSet<Long> previousMembers = roomsByType.get(previousType);
+            if (previousMembers != null) {
+                previousMembers.remove(roomId);
+            }
+        }
+        nights.roomTypeId = roomTypeId;
+        nights.searchable = isSearchable(roomStatus);
+        roomsByType.computeIfAbsent(roomTypeId, id -> new ConcurrentSkipListSet<>()).add(roomId);
+    }
+
+    public void reserve(Long roomId, Long bookingId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (roomId == null || bookingId == null || checkInDate == null || checkOutDate == null
+                || !checkOutDate.isAfter(checkInDate)) {
+            return;
+        }
+        rooms.computeIfAbsent(roomId, id -> new RoomNights())
+                .add(bookingId, checkInDate.toEpochDay(), checkOutDate.toEpochDay());
+    }
+
+    public void release(Long roomId, Long bookingId) {
+        RoomNights nights = rooms.get(roomId);
+        if (nights != null) {
+            nights.remove(bookingId);
+        }
+    }
+
+    public void removeRoom(Long roomId) {
+        RoomNights removed = rooms.remove(roomId);
+        if (removed != null && removed.roomTypeId != null) {
+            NavigableSet<Long> members = roomsByType.get(removed.roomTypeId);
+            if (members != null) {
+                members.remove(roomId);
+            }
+        }
+    }
+
+    /**
+     * Returns true when none of the nights in {@code [checkInDate, checkOutDate)} are booked.
+     */
+    public boolean isAvailable(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        RoomNights nights = rooms.get(roomId);
+        return nights == null || !nights.bits.intersects(checkInDate.toEpochDay(), checkOutDate.toEpochDay());
+    }
+
+    /**
+     * Counts the searchable rooms of a room type that are free for the whole range. The
+     * representative room is the lowest free room id, so repeated searches point at the same room.
+     */
+    public TypeAvailability countAvailable(Long roomTypeId, LocalDate checkInDate, LocalDate checkOutDate) {
+        NavigableSet<Long> members = roomsByType.get(roomTypeId);
+        if (members == null) {
+            return new TypeAvailability(0, null);
+        }
+        long fromDay = checkInDate.toEpochDay();
+        long toDay = checkOutDate.toEpochDay();
+        long count = 0;
+        Long representative = null;
+        for (Long roomId : members) {
+            RoomNights nights = rooms.get(roomId);
+            if (nights != null && nights.searchable && !nights.bits.intersects(fromDay, toDay)) {
+                count++;
+                if (representative == null) {
+                    representative = roomId;
+                }
+            }
+        }
+        return new TypeAvailability(count, representative);
+    }
+
+    /**
+     * For each candidate check-in day {@code firstCheckIn + i} (i &lt; candidateDays), counts the
+     * searchable rooms of the room type that are free for {@code nights} nights from that day.
+     *
+     * Each room contributes in one pass: its booked nights over the whole window are sliced out
+     * of the bitset once, and a start day is blocked if any of the following {@code nights} bits
+     * is set, which is computed by OR-ing the slice with itself shifted by 1..nights-1.
+     */
+    public StartDayAvailability countAvailableByStartDay(Long roomTypeId, LocalDate firstCheckIn,
+                                                         int candidateDays, int nights) {
+        long[] availableRooms = new long[candidateDays];
+        Long[] representativeRoomIds = new Long[candidateDays];
+        NavigableSet<Long> members = roomsByType.get(roomTypeId);
+        if (members == null) {
+            return new StartDayAvailability(availableRooms, representativeRoomIds);
+        }
+
+        long fromDay = firstCheckIn.toEpochDay();
+        int span = candidateDays + nights - 1;
+        for (Long roomId : members) {
+            RoomNights room = rooms.get(roomId);
+            if (room == null || !room.searchable) {
+                continue;
+            }
+            long[] booked = room.bits.slice(fromDay, span);
+            long[] blocked = booked.clone();
+            for (int shift = 1; shift < nights; shift++) {
+                NightBits.orShiftedRight(blocked, booked, shift);
+            }
+            for (int day = 0; day < candidateDays; day++) {
+                if ((blocked[day >> 6] & (1L << (day & 63))) == 0) {
+                    availableRooms[day]++;
+                    if (representativeRoomIds[day] == null) {
+                        representativeRoomIds[day] = roomId;
+                    }
+                }
+            }
+        }
+        return new StartDayAvailability(availableRooms, representativeRoomIds);
+    }
+
+    // Holds share the per-room stay map with bookings under negated keys, so the two never collide.
+    private static long holdStayKey(long holdKey) {
+        return -holdKey;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class StartDayAvailability {
+        private final long[] availableRooms;
+        private final Long[] representativeRoomIds;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static final class TypeAvailability {
+        private final long availableRooms;
+        private final Long representativeRoomId;
+    }
+
+    private static final class RoomNights {
+        private final Map<Long, long[]> stays = new HashMap<>();
+        private volatile NightBits bits = NightBits.EMPTY;
+        private volatile Long roomTypeId;
+        private volatile boolean searchable = true;
+
+        synchronized void add(Long bookingId, long fromDay, long toDay) {
+            stays.put(bookingId, new long[] { fromDay, toDay });
+            bits = bits.with(fromDay, toDay);
+        }
+
+        synchronized void remove(Long bookingId) {
+            if (stays.remove(bookingId) == null) {
+                return;
+            }
+            // Stays may overlap (legacy double bookings), so rebuild from what is left
+            // rather than clearing the released range.
+            NightBits rebuilt = NightBits.EMPTY;
+            for (long[] stay : stays.values()) {
+                rebuilt = rebuilt.with(stay[0], stay[1]);
+            }
+            bits = rebuilt;
+        }
+    }
+
+    /**
+     * Immutable bitset over epoch days. Writers publish a new copy, so readers never lock.
+     */
+    static final class NightBits {
+        static final NightBits EMPTY = new NightBits(0, new long[0]);
+
+        private final long baseWord;
+        private final long[] words;
+
+        private NightBits(long baseWord, long[] words) {
+            this.baseWord = baseWord;
+            this.words = words;
+        }
+
+        NightBits with(long fromDay, long toDay) {
+            long firstWord = fromDay >> 6;
+            long lastWord = (toDay - 1) >> 6;
+
+            long newBase = firstWord;
+            long newEnd = lastWord;
+            if (words.length > 0) {
+                newBase = Math.min(baseWord, firstWord);
+                newEnd = Math.max(baseWord + words.length - 1, lastWord);
+            }
+            long[] copy = new long[(int) (newEnd - newBase + 1)];
+            if (words.length > 0) {
+                System.arraycopy(words, 0, copy, (int) (baseWord - newBase), words.length);
+            }
+
+            for (long w = firstWord; w <= lastWord; w++) {
+                copy[(int) (w - newBase)] |= mask(w, firstWord, lastWord, fromDay, toDay);
+            }
+            return new NightBits(newBase, copy);
+        }
+
+        boolean intersects(long fromDay, long toDay) {
+            if (words.length == 0 || toDay <= fromDay) {
+                return false;
+            }
+            long firstWord = fromDay >> 6;
+            long lastWord = (toDay - 1) >> 6;
+            long start = Math.max(firstWord, baseWord);
+            long end = Math.min(lastWord, baseWord + words.length - 1);
+
+            for (long w = start; w <= end; w++) {
+                if ((words[(int) (w - baseWord)] & mask(w, firstWord, lastWord, fromDay, toDay)) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Copies the nights {@code [fromDay, fromDay + length)} into a new array, bit 0 being fromDay.
+         */
+        long[] slice(long fromDay, int length) {
+            long[] out = new long[(length + 63) >> 6];
+            int offset = (int) (fromDay & 63);
+            for (int i = 0; i < out.length; i++) {
+                long w = (fromDay >> 6) + i - baseWord;
+                long value = wordAt(w) >>> offset;
+                if (offset != 0) {
+                    value |= wordAt(w + 1) << (64 - offset);
+                }
+                out[i] = value;
+            }
+            int tail = length & 63;
+            if (tail != 0) {
+                out[out.length - 1] &= (1L << tail) - 1;
+            }
+            return out;
+        }
+
+        private long wordAt(long index) {
+            return index >= 0 && index < words.length ? words[(int) index] : 0L;
+        }
+
+        /**
+         * {@code target |= source >>> shift}, treating both arrays as one little-endian bitset.
+         */
+        static void orShiftedRight(long[] target, long[] source, int shift) {
+            int wordShift = shift >> 6;
+            int bitShift = shift & 63;
+            for (int i = 0; i < target.length; i++) {
+                int src = i + wordShift;
+                if (src >= source.length) {
+                    break;
+                }
+                long value = source[src] >>> bitShift;
+                if (bitShift != 0 && src + 1 < source.length) {
+                    value |= source[src + 1] << (64 - bitShift);
+                }
+                target[i] |= value;
+            }
+        }
+
+        private static long mask(long word, long firstWord, long lastWord, long fromDay, long toDay) {
+            long mask = -1L;
+            if (word == firstWord) {
+                mask &= -1L << (fromDay & 63);
+            }
+            if (word == lastWord) {
+                mask &= -1L >>> (63 - ((toDay - 1) & 63));
+            }
+            return mask;
+        }
+    }
+}
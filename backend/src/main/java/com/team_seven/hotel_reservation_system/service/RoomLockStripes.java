@@ -0,0 +1,88 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of in-JVM locks that booking writers take per room before checking for overlaps.
+ *
+ * Rooms are mapped onto stripes by id, so writers for the same room queue up while writers for
+ * other rooms normally hit a different stripe and run in parallel. Several stripes are always
+ * taken in ascending order so multi-room writers cannot deadlock each other.
+ *
+ * Inside a transaction the stripes stay locked until it has committed or rolled back; otherwise a
+ * second writer could run its overlap check before the first one's booking is visible. The row
+ * lock on the room ({@code SELECT ... FOR UPDATE}) gives the same guarantee across instances; the
+ * stripes keep same-room writers in this JVM from piling up on database connections.
+ */
+@Component
+public class RoomLockStripes {
+
+    private final ReentrantLock[] stripes;
+
+    public RoomLockStripes(@Value("${booking.lock.stripes:256}") int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the stripes of all given rooms. When a transaction is active they are released after
+     * it completes and closing the handle does nothing; otherwise closing the handle releases them.
+     */
+    public Held acquire(Collection<Long> roomIds) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Long roomId : roomIds) {
+            indexes.add(stripeIndex(roomId));
+        }
+
+        ReentrantLock[] locked = new ReentrantLock[indexes.size()];
+        int count = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                locked[count++] = stripes[index];
+            }
+        } catch (RuntimeException | Error e) {
+            unlock(locked, count);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlock(locked, locked.length);
+                }
+            });
+            return () -> { };
+        }
+        return () -> unlock(locked, locked.length);
+    }
+
+    int stripeIndex(Long roomId) {
+        return (int) Math.floorMod(roomId, (long) stripes.length);
+    }
+
+    private static void unlock(ReentrantLock[] locked, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            locked[i].unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
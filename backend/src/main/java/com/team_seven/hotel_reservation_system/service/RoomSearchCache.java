@@ -0,0 +1,107 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.CacheStatsDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomHoldChangedEvent;
+import com.team_seven.hotel_reservation_system.util.BoundedTtlCache;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Result cache for public room search.
+ *
+ * Entries are keyed by city and the date window they cover, so a booking only evicts searches
+ * in its own city whose window overlaps the booked nights. Catalog edits (rooms, room types,
+ * hotels) evict every entry for the affected city.
+ *
+ * Eviction runs after {@link RoomAvailabilityIndex} has applied the same event, see
+ * {@link RoomAvailabilityIndex#LISTENER_ORDER}.
+ */
+@Component
+public class RoomSearchCache {
+
+    private final BoundedTtlCache<SearchKey, Object> cache;
+
+    public RoomSearchCache(
+            @Value("${search.cache.max-entries:2000}") int maxEntries,
+            @Value("${search.cache.ttl:60s}") Duration ttl) {
+        this.cache = new BoundedTtlCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * @param variant distinguishes search modes and their extra parameters for the same window
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String city, LocalDate from, LocalDate to, int guestCapacity, String variant,
+                           Supplier<T> loader) {
+        SearchKey key = new SearchKey(city, from, to, guestCapacity, variant);
+        return (T) cache.getOrLoad(key, loader::get);
+    }
+
+    @Order(RoomAvailabilityIndex.LISTENER_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        boolean wasBlocking = RoomAvailabilityIndex.isBlocking(event.getPreviousStatus());
+        boolean isBlocking = RoomAvailabilityIndex.isBlocking(event.getStatus());
+        if (wasBlocking == isBlocking) {
+            return;
+        }
+        invalidateWindow(event.getCity(), event.getCheckInDate(), event.getCheckOutDate());
+    }
+
+    @Order(RoomAvailabilityIndex.LISTENER_ORDER + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onRoomHoldChanged(RoomHoldChangedEvent event) {
+        invalidateWindow(event.getCity(), event.getCheckInDate(), event.getCheckOutDate());
+    }
+
+    @Order(RoomAvailabilityIndex.LISTENER_ORDER + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomCatalogChanged(RoomCatalogChangedEvent event) {
+        invalidateCity(event.getCity());
+    }
+
+    public CacheStatsDto getStats() {
+        return CacheStatsDto.from(cache);
+    }
+
+    private void invalidateWindow(String city, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (city == null || checkInDate == null || checkOutDate == null) {
+            invalidateCity(city);
+            return;
+        }
+        cache.invalidateIf(key -> key.getCity().equals(city)
+                && key.getFrom().isBefore(checkOutDate)
+                && key.getTo().isAfter(checkInDate));
+    }
+
+    private void invalidateCity(String city) {
+        if (city == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateIf(key -> key.getCity().equals(city));
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static final class SearchKey {
+        private final String city;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final int guestCapacity;
+        private final String variant;
+    }
+}
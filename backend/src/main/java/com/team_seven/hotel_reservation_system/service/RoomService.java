@@ -1,12 +1,16 @@
 package com.team_seven.hotel_reservation_system.service;
 
 import com.team_seven.hotel_reservation_system.dto.RoomDto;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import org.springframework.data.domain.Page;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface RoomService {
     RoomDto create(RoomDto dto);
-    RoomDto getById(Long id);
-    List<RoomDto> getAll();
+    RoomDto getById(Long id, LocalDate date);
+    List<RoomDto> getAll(LocalDate date);
+    Page<RoomDto> getPage(Long hotelId, Long roomTypeId, RoomStatus status, LocalDate date, int page, int size);
     RoomDto update(Long id, RoomDto dto);
     void delete(Long id);
 }
@@ -0,0 +1,169 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import com.team_seven.hotel_reservation_system.dto.DailyAvailabilityDto;
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeCalendarDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomsImportedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomTypeInventory;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeInventoryRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Keeps the per-night {@link RoomTypeInventory} counts in step with bookings and rooms, and reads
+ * them back as a month calendar. Only AVAILABLE rooms are counted, as in search: a room under
+ * maintenance is neither free nor taken.
+ *
+ * The listeners are plain {@link EventListener}s rather than transactional ones, so they run inside
+ * the transaction that changed the booking or room and the counts commit or roll back with it.
+ * Under READ COMMITTED two first bookings of a night can still both start its row from a stale
+ * room count, so {@link #reconcile()} rebuilds every room type from the bookings once a night.
+ */
+@Service
+public class RoomTypeInventoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomTypeInventoryService.class);
+    private static final List<Short> BLOCKING_STATUS_CODES = BookingStatus.codesOf(RoomAvailabilityIndex.BLOCKING_STATUSES);
+    private static final short AVAILABLE = RoomStatus.AVAILABLE.getCode();
+
+    private final RoomTypeInventoryRepository inventoryRepository;
+    private final RoomRepository roomRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public RoomTypeInventoryService(RoomTypeInventoryRepository inventoryRepository, RoomRepository roomRepository,
+                                    RoomTypeRepository roomTypeRepository, TransactionTemplate transactionTemplate) {
+        this.inventoryRepository = inventoryRepository;
+        this.roomRepository = roomRepository;
+        this.roomTypeRepository = roomTypeRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public RoomTypeCalendarDto getMonthCalendar(Long roomTypeId, YearMonth month) {
+        if (!roomTypeRepository.existsById(roomTypeId)) {
+            throw new EntityNotFoundException("RoomType not found with ID: " + roomTypeId);
+        }
+
+        long totalRooms = roomRepository.countByRoomTypeIdAndStatus(roomTypeId, RoomStatus.AVAILABLE);
+        List<RoomTypeInventory> rows = inventoryRepository.findByRoomTypeIdAndStayDateBetweenOrderByStayDate(
+            roomTypeId, month.atDay(1), month.atEndOfMonth());
+
+        List<DailyAvailabilityDto> days = new ArrayList<>(month.lengthOfMonth());
+        int next = 0;
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            long available = totalRooms;
+            if (next < rows.size() && rows.get(next).getStayDate().equals(date)) {
+                available = Math.max(0, rows.get(next++).getAvailableRooms());
+            }
+            days.add(new DailyAvailabilityDto(date, available, available > 0));
+        }
+
+        return RoomTypeCalendarDto.builder()
+            .roomTypeId(roomTypeId)
+            .month(month)
+            .totalRooms(totalRooms)
+            .days(days)
+            .build();
+    }
+
+    @EventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.getRoomTypeId() == null || event.getCheckInDate() == null || event.getCheckOutDate() == null) {
+            return;
+        }
+        boolean wasBlocking = RoomAvailabilityIndex.isBlocking(event.getPreviousStatus());
+        boolean isBlocking = RoomAvailabilityIndex.isBlocking(event.getStatus());
+
+        if (!wasBlocking && isBlocking) {
+            inventoryRepository.reserveNights(event.getRoomTypeId(), event.getRoomId(),
+                event.getCheckInDate(), event.getCheckOutDate(), AVAILABLE);
+        } else if (wasBlocking && !isBlocking) {
+            inventoryRepository.releaseNights(event.getRoomTypeId(), event.getRoomId(),
+                event.getCheckInDate(), event.getCheckOutDate(), AVAILABLE);
+        }
+    }
+
+    @EventListener
+    public void onRoomCatalogChanged(RoomCatalogChangedEvent event) {
+        if (!event.isRoomChange()) {
+            return;
+        }
+        Long previousRoomTypeId = event.getPreviousRoomTypeId();
+        Long roomTypeId = event.getRoomTypeId();
+
+        if (previousRoomTypeId != null && roomTypeId != null && !Objects.equals(previousRoomTypeId, roomTypeId)) {
+            // The room takes its bookings along to the new type, so both sides are recounted.
+            rebuild(previousRoomTypeId);
+            rebuild(roomTypeId);
+            return;
+        }
+        boolean wasCounted = previousRoomTypeId != null && event.getPreviousRoomStatus() == RoomStatus.AVAILABLE;
+        boolean isCounted = roomTypeId != null && event.getRoomStatus() == RoomStatus.AVAILABLE;
+
+        if (!wasCounted && isCounted) {
+            inventoryRepository.addRoom(roomTypeId, event.getRoomId(), BLOCKING_STATUS_CODES);
+        } else if (wasCounted && !isCounted) {
+            inventoryRepository.removeRoom(previousRoomTypeId, event.getRoomId(), BLOCKING_STATUS_CODES);
+        }
+    }
+
+    // One statement per room type; new room types have no inventory rows yet and match nothing.
+    @EventListener
+    public void onRoomsImported(RoomsImportedEvent event) {
+        Map<Long, Integer> roomsByType = new TreeMap<>();
+        for (IndexedRoomDto room : event.getRooms()) {
+            if (room.getStatus() == RoomStatus.AVAILABLE) {
+                roomsByType.merge(room.getRoomTypeId(), 1, Integer::sum);
+            }
+        }
+        roomsByType.forEach(inventoryRepository::addRooms);
+    }
+
+    /**
+     * Recounts every room type from its bookings, one transaction per room type so no booking waits
+     * on more than the rows of the type being rebuilt. A booking that commits while its type is being
+     * rebuilt is either in the rebuilt counts or applied on top of them, never both.
+     */
+    @Scheduled(cron = "${inventory.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        int rebuilt = 0;
+        for (Long roomTypeId : roomTypeRepository.findAllIds()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuild(roomTypeId));
+                rebuilt++;
+            } catch (RuntimeException e) {
+                log.warn("Inventory rebuild failed for room type {}", roomTypeId, e);
+            }
+        }
+        log.info("Inventory reconciled for {} room types", rebuilt);
+    }
+
+    @Transactional
+    public void rebuild(Long roomTypeId) {
+        inventoryRepository.deleteByRoomTypeId(roomTypeId);
+        inventoryRepository.insertFromBookings(roomTypeId, BLOCKING_STATUS_CODES, AVAILABLE);
+    }
+}
@@ -1,42 +1,61 @@
 package com.team_seven.hotel_reservation_system.service;
 
 import com.team_seven.hotel_reservation_system.dto.RoomTypeDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeOptionDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
 import com.team_seven.hotel_reservation_system.models.Hotel;
 import com.team_seven.hotel_reservation_system.models.RoomType;
 import com.team_seven.hotel_reservation_system.repositories.HotelRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
 public class RoomTypeService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RoomTypeRepository roomTypeRepository;
     private final HotelRepository hotelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RoomTypeService(RoomTypeRepository roomTypeRepository, HotelRepository hotelRepository){
+    public RoomTypeService(RoomTypeRepository roomTypeRepository, HotelRepository hotelRepository,
+                           ApplicationEventPublisher eventPublisher){
         this.roomTypeRepository = roomTypeRepository;
         this.hotelRepository = hotelRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomTypeDto> getAll(Long hotelId) {
+        return roomTypeRepository.findRoomTypeDtos(hotelId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<RoomTypeDto> getPage(Long hotelId, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return roomTypeRepository.findRoomTypePage(hotelId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public List<RoomTypeDto> getAll() {
-        return roomTypeRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    public List<RoomTypeOptionDto> getOptions(Long hotelId) {
+        return roomTypeRepository.findRoomTypeOptions(hotelId);
     }
 
     @Transactional(readOnly = true)
     public RoomTypeDto getById(Long id) {
-        RoomType rt = roomTypeRepository.findById(id)
+        return roomTypeRepository.findRoomTypeDtoById(id)
                 .orElseThrow(() -> new RuntimeException("Room type not found"));
-        return toDto(rt);
     }
 
     @Transactional
@@ -53,7 +72,9 @@ public class RoomTypeService {
                 .hotel(hotel)
                 .build();
 
-        return toDto(roomTypeRepository.save(rt));
+        RoomTypeDto created = toDto(roomTypeRepository.save(rt));
+        publishCatalogChange(hotel);
+        return created;
     }
 
     @Transactional
@@ -64,21 +85,36 @@ public class RoomTypeService {
         Hotel newHotel = hotelRepository.findById(dto.getHotelId())
             .orElseThrow(() -> new RuntimeException("Hotel not found")); 
 
+        // Moving the type to another city changes what that city's searches return as well.
+        if (!Objects.equals(cityOf(rt.getHotel()), cityOf(newHotel))) {
+            publishCatalogChange(rt.getHotel());
+        }
+
         rt.setName(dto.getName());
         rt.setDescription(dto.getDescription());
         rt.setImageUrl(dto.getImageUrl());
         rt.setPricePerNight(dto.getPricePerNight()); 
         rt.setCapacity(dto.getCapacity());
         rt.setHotel(newHotel); 
+        publishCatalogChange(newHotel);
 
         return toDto(roomTypeRepository.save(rt));
     }
 
     @Transactional
     public void delete(Long id) {
+        roomTypeRepository.findById(id).ifPresent(rt -> publishCatalogChange(rt.getHotel()));
         roomTypeRepository.deleteById(id);
     }
 
+    private void publishCatalogChange(Hotel hotel) {
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(cityOf(hotel)));
+    }
+
+    private String cityOf(Hotel hotel) {
+        return hotel != null ? hotel.getCity() : null;
+    }
+
     private RoomTypeDto toDto(RoomType rt) {
         if (rt == null) return null;
 
@@ -1,35 +1,67 @@
 package com.team_seven.hotel_reservation_system.service.impl;
 
+import com.team_seven.hotel_reservation_system.dto.BookingKeyDto;
+import com.team_seven.hotel_reservation_system.dto.BookingListCriteria;
+import com.team_seven.hotel_reservation_system.dto.BookingListPageDto;
+import com.team_seven.hotel_reservation_system.dto.BookingStatusOutcomeDto;
+import com.team_seven.hotel_reservation_system.dto.BookingStatusRowDto;
+import com.team_seven.hotel_reservation_system.dto.BookingSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRequestDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRoomDto;
 import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto; 
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.exception.BookingConflictException;
+import com.team_seven.hotel_reservation_system.exception.InvalidStatusTransitionException;
 import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
 import com.team_seven.hotel_reservation_system.models.Customer;
 import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.repositories.BookingBatchRepository;
+import com.team_seven.hotel_reservation_system.repositories.BookingListRepository;
 import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
 import com.team_seven.hotel_reservation_system.repositories.CustomerRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository; 
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
 import com.team_seven.hotel_reservation_system.service.BookingService;
+import com.team_seven.hotel_reservation_system.service.CustomerResolver;
+import com.team_seven.hotel_reservation_system.service.RoomAvailabilityIndex;
+import com.team_seven.hotel_reservation_system.service.RoomLockStripes;
+import com.team_seven.hotel_reservation_system.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.math.BigDecimal;
-import java.util.Optional; 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 @Service
 public class BookingServiceImpl implements BookingService {
     
-    private static final String ROOM_STATUS_AVAILABLE = "AVAILABLE";
-    private static final String ROOM_STATUS_BOOKED = "BOOKED";
-    private static final String ROOM_STATUS_OCCUPIED = "OCCUPIED";
-    
-    private static final String BOOKING_STATUS_CHECKED_IN = "CHECKED_IN";
-    private static final String BOOKING_STATUS_CHECKED_OUT = "CHECKED_OUT";
-    private static final String BOOKING_STATUS_CANCELLED = "CANCELLED";
+    private static final int MAX_GROUP_ROOMS = 100;
+    private static final int MAX_BULK_BOOKINGS = 1000;
+    private static final int MAX_LIST_PAGE_SIZE = 100;
+
+    private static final String OUTCOME_UPDATED = "UPDATED";
+    private static final String OUTCOME_UNCHANGED = "UNCHANGED";
+    private static final String OUTCOME_REJECTED = "REJECTED";
+    private static final String OUTCOME_NOT_FOUND = "NOT_FOUND";
 
 
     @Autowired
@@ -43,6 +75,24 @@ public class BookingServiceImpl implements BookingService {
     
     @Autowired
     private RoomTypeRepository roomTypeRepository; 
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RoomLockStripes roomLocks;
+
+    @Autowired
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Autowired
+    private BookingListRepository bookingListRepository;
+
+    @Autowired
+    private BookingHoldService bookingHoldService;
+
+    @Autowired
+    private CustomerResolver customerResolver;
     
     @Override
     @Transactional 
@@ -51,23 +101,36 @@ public class BookingServiceImpl implements BookingService {
         if (numberOfNights <= 0) {
             throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
-        
-        Room room = roomRepository.findById(dto.getRoomId()) 
-            .orElseThrow(() -> new RuntimeException("Room not found with id: " + dto.getRoomId()));
 
-        Optional<Customer> existingCustomer = customerRepository.findByEmail(dto.getEmail());
-        
-        Customer customerToUse;
-        if (existingCustomer.isPresent()) {
-            customerToUse = existingCustomer.get();
-        } else {
-            Customer newCustomer = new Customer();
-            newCustomer.setEmail(dto.getEmail());
-            newCustomer.setFirstName(dto.getFirstName());
-            newCustomer.setLastName(dto.getLastName());
-            newCustomer.setPhoneNumber(dto.getPhoneNumber());
-            customerToUse = customerRepository.save(newCustomer);
+        try (RoomLockStripes.Held ignored = roomLocks.acquire(List.of(dto.getRoomId()))) {
+            return createLockedBooking(dto, numberOfNights);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Booking confirmHold(String holdId, String holdToken) {
+        Long roomId = bookingHoldService.getHold(holdId, holdToken).getRoomId();
+
+        // The stripe is taken before the hold is claimed so no writer in this instance can slip in
+        // between. Holds are not shared between instances, so the bookings are still checked under
+        // the room row lock; a booking made elsewhere turns the hold into a conflict.
+        try (RoomLockStripes.Held ignored = roomLocks.acquire(List.of(roomId))) {
+            GuestBookingRequestDto dto = bookingHoldService.claim(holdId, holdToken).getRequest();
+            long numberOfNights = ChronoUnit.DAYS.between(dto.getCheckInDate(), dto.getCheckOutDate());
+            return createLockedBooking(dto, numberOfNights);
         }
+    }
+
+    // Runs with the room's stripe held, so no other writer in this JVM can book the room between
+    // the overlap check and the insert; the row lock covers writers in other instances.
+    private Booking createLockedBooking(GuestBookingRequestDto dto, long numberOfNights) {
+        Room room = roomRepository.findByIdForUpdate(dto.getRoomId()) 
+            .orElseThrow(() -> new RuntimeException("Room not found with id: " + dto.getRoomId()));
+
+        checkNoOverlap(room.getId(), dto.getCheckInDate(), dto.getCheckOutDate());
+
+        Customer customerToUse = findOrCreateCustomer(dto.getEmail(), dto.getFirstName(), dto.getLastName(), dto.getPhoneNumber());
 
         BigDecimal pricePerNight = room.getRoomType().getPricePerNight(); 
         BigDecimal totalPrice = pricePerNight.multiply(BigDecimal.valueOf(numberOfNights));
@@ -79,60 +142,329 @@ public class BookingServiceImpl implements BookingService {
         newBooking.setCheckOutDate(dto.getCheckOutDate());
         newBooking.setNumberOfGuests(dto.getNumberOfGuests());
         
-        newBooking.setStatus("CONFIRMED"); 
+        newBooking.setStatus(BookingStatus.CONFIRMED); 
         
         newBooking.setTotalPrice(totalPrice);
 
         Booking savedBooking = bookingRepository.save(newBooking);
-        String roomStatus = room.getStatus();
-        
-        if (roomStatus != null && roomStatus.equalsIgnoreCase(ROOM_STATUS_AVAILABLE)) {
-            room.setStatus(ROOM_STATUS_BOOKED); 
-            roomRepository.save(room);
-        }
+        publishStatusChange(savedBooking, null);
         
         return savedBooking;
     }
 
+    @Override
+    @Transactional
+    public GroupBookingResultDto createGroupBooking(GroupBookingRequestDto dto) {
+        long numberOfNights = ChronoUnit.DAYS.between(dto.getCheckInDate(), dto.getCheckOutDate());
+        if (numberOfNights <= 0) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        List<GroupBookingRoomDto> requested = dto.getRooms();
+        if (requested == null || requested.isEmpty()) {
+            throw new IllegalArgumentException("A group booking needs at least one room");
+        }
+        if (requested.size() > MAX_GROUP_ROOMS) {
+            throw new IllegalArgumentException("A group booking can hold at most " + MAX_GROUP_ROOMS + " rooms");
+        }
+
+        Map<Long, GroupBookingRoomDto> requestedByRoomId = new TreeMap<>();
+        for (GroupBookingRoomDto item : requested) {
+            if (item.getRoomId() == null || requestedByRoomId.put(item.getRoomId(), item) != null) {
+                throw new IllegalArgumentException("Each room must be given once with an id: " + item.getRoomId());
+            }
+        }
+
+        try (RoomLockStripes.Held ignored = roomLocks.acquire(requestedByRoomId.keySet())) {
+            return createLockedGroupBooking(dto, requestedByRoomId, numberOfNights);
+        }
+    }
+
+    // All rooms are row-locked in id order before anything is checked or written, so the group
+    // either gets every room or fails without side effects.
+    private GroupBookingResultDto createLockedGroupBooking(GroupBookingRequestDto dto,
+                                                           Map<Long, GroupBookingRoomDto> requestedByRoomId,
+                                                           long numberOfNights) {
+        List<Room> rooms = roomRepository.findAllByIdInForUpdate(requestedByRoomId.keySet());
+        if (rooms.size() != requestedByRoomId.size()) {
+            Set<Long> missing = new TreeSet<>(requestedByRoomId.keySet());
+            rooms.forEach(room -> missing.remove(room.getId()));
+            throw new RuntimeException("Room not found with id: " + missing);
+        }
+
+        List<Long> taken = bookingRepository.findBookedRoomIds(
+                requestedByRoomId.keySet(), dto.getCheckInDate(), dto.getCheckOutDate());
+        Set<Long> unavailable = new TreeSet<>(taken);
+        for (Long roomId : requestedByRoomId.keySet()) {
+            if (bookingHoldService.isHeld(roomId, dto.getCheckInDate(), dto.getCheckOutDate())) {
+                unavailable.add(roomId);
+            }
+        }
+        if (!unavailable.isEmpty()) {
+            throw new BookingConflictException("Rooms " + unavailable + " are not available between "
+                    + dto.getCheckInDate() + " and " + dto.getCheckOutDate());
+        }
+
+        Customer customer = findOrCreateCustomer(dto.getEmail(), dto.getFirstName(), dto.getLastName(), dto.getPhoneNumber());
+
+        List<Booking> bookings = new ArrayList<>(rooms.size());
+        BigDecimal groupTotal = BigDecimal.ZERO;
+        for (Room room : rooms) {
+            BigDecimal totalPrice = room.getRoomType().getPricePerNight().multiply(BigDecimal.valueOf(numberOfNights));
+
+            Booking booking = new Booking();
+            booking.setCustomer(customer);
+            booking.setRoom(room);
+            booking.setCheckInDate(dto.getCheckInDate());
+            booking.setCheckOutDate(dto.getCheckOutDate());
+            booking.setNumberOfGuests(requestedByRoomId.get(room.getId()).getNumberOfGuests());
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setTotalPrice(totalPrice);
+            bookings.add(booking);
+            groupTotal = groupTotal.add(totalPrice);
+        }
+        bookingBatchRepository.insertAll(bookings);
+        bookings.forEach(booking -> publishStatusChange(booking, null));
+
+        return GroupBookingResultDto.builder()
+                .customerId(customer.getId())
+                .checkInDate(dto.getCheckInDate())
+                .checkOutDate(dto.getCheckOutDate())
+                .bookingIds(bookings.stream().map(Booking::getId).toList())
+                .totalPrice(groupTotal)
+                .build();
+    }
+
    @Override
     @Transactional(readOnly = true)
-    public Page<Booking> getBookings(String statusFilter, Pageable pageable) {
+    public Page<BookingSummaryDto> getBookings(String statusFilter, Pageable pageable) {
         
-        if (statusFilter == null || statusFilter.isEmpty()) {
-            return bookingRepository.findAllWithDetails(pageable); 
-        } else {
-            return bookingRepository.findAllByStatusContainingIgnoreCaseWithDetails(statusFilter, pageable);
+        // A comma-separated list such as "CONFIRMED,CHECKED_IN" matches any of its statuses.
+        Set<BookingStatus> statuses = BookingStatus.parseAll(statusFilter);
+        if (statuses.isEmpty()) {
+            return bookingRepository.findAllSummaries(pageable);
         }
+        return bookingRepository.findSummariesByStatusIn(statuses, pageable);
     }
 
+    /**
+     * Keyset page of the admin list, newest first. The page's ids come from one index range scan
+     * and the rows are then read by id; no COUNT runs unless asked for.
+     */
     @Override
-    @Transactional
-    public List<Booking> getBookingsByCurrentUser(String userEmail) {
-        
-        List<Booking> bookings = bookingRepository.findDetailedBookingsByCustomerEmail(userEmail);
+    @Transactional(readOnly = true)
+    public BookingListPageDto getBookingsPage(BookingListCriteria criteria) {
+        int size = Math.min(Math.max(criteria.getSize(), 1), MAX_LIST_PAGE_SIZE);
+        Timestamp afterCreatedAt = null;
+        Long afterId = null;
+        if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+            String[] parts = KeysetCursor.decode(criteria.getCursor(), 2);
+            try {
+                afterCreatedAt = Timestamp.from(Instant.parse(parts[0]));
+                afterId = Long.valueOf(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + criteria.getCursor(), e);
+            }
+        }
+
+        List<BookingKeyDto> keys = bookingListRepository.findPageKeys(criteria, afterCreatedAt, afterId, size + 1);
+        boolean hasMore = keys.size() > size;
+        if (hasMore) {
+            keys = keys.subList(0, size);
+        }
 
-        return bookings; 
+        Map<Long, BookingSummaryDto> bookingsById = new HashMap<>();
+        if (!keys.isEmpty()) {
+            for (BookingSummaryDto booking : bookingRepository.findSummariesByIdIn(
+                    keys.stream().map(BookingKeyDto::getBookingId).toList())) {
+                bookingsById.put(booking.getId(), booking);
+            }
+        }
+        List<BookingSummaryDto> items = new ArrayList<>(keys.size());
+        for (BookingKeyDto key : keys) {
+            BookingSummaryDto booking = bookingsById.get(key.getBookingId());
+            if (booking != null) {
+                items.add(booking);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            BookingKeyDto last = keys.get(keys.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt().toInstant(), last.getBookingId());
+        }
+        return BookingListPageDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .total(criteria.isIncludeTotal() ? bookingListRepository.count(criteria) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingSummaryDto> getBookingsByCurrentUser(String userEmail) {
+        return bookingRepository.findSummariesByCustomerEmail(userEmail);
     }
 
     @Override
     @Transactional
-    public Booking updateStatus(Long id, String status) { 
+    public Booking updateStatus(Long id, String statusValue) { 
+        BookingStatus status = BookingStatus.parse(statusValue);
+        if (status == null) {
+            throw new IllegalArgumentException("A target status is required");
+        }
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
-        
-        Room room = booking.getRoom();
-        
-        booking.setStatus(status.toUpperCase());
-        Booking updatedBooking = bookingRepository.save(booking);
 
-        if (status.equalsIgnoreCase(BOOKING_STATUS_CHECKED_IN)) {
-            room.setStatus(ROOM_STATUS_OCCUPIED);
-            roomRepository.save(room);
-        } else if (status.equalsIgnoreCase(BOOKING_STATUS_CHECKED_OUT) || status.equalsIgnoreCase(BOOKING_STATUS_CANCELLED)) {
-            room.setStatus(ROOM_STATUS_AVAILABLE); 
-            roomRepository.save(room);
+        if (booking.getStatus() == status) {
+            return booking;
+        }
+        if (booking.getStatus() != null && !booking.getStatus().canMoveTo(status)) {
+            throw new InvalidStatusTransitionException(id, booking.getStatus(), status);
+        }
+
+        // Moving a cancelled or pending booking back to a blocking status takes the room again.
+        if (!RoomAvailabilityIndex.isBlocking(booking.getStatus()) && RoomAvailabilityIndex.isBlocking(status)) {
+            Long roomId = booking.getRoom().getId();
+            try (RoomLockStripes.Held ignored = roomLocks.acquire(List.of(roomId))) {
+                roomRepository.findByIdForUpdate(roomId);
+                checkNoOverlap(roomId, booking.getCheckInDate(), booking.getCheckOutDate());
+                return applyStatus(booking, status);
+            }
         }
+        return applyStatus(booking, status);
+    }
+
+    // Occupancy is derived from bookings, so a status change never writes the room row.
+    private Booking applyStatus(Booking booking, BookingStatus status) {
+        BookingStatus previousStatus = booking.getStatus();
+        
+        booking.setStatus(status);
+        Booking updatedBooking = bookingRepository.save(booking);
+        publishStatusChange(updatedBooking, previousStatus);
         
         return updatedBooking;
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public BulkStatusUpdateResultDto updateStatuses(BulkStatusUpdateRequestDto dto) {
+        BookingStatus status = dto.getStatus();
+        if (status == null) {
+            throw new IllegalArgumentException("A target status is required");
+        }
+
+        Set<Long> requestedIds = new TreeSet<>();
+        List<BookingStatusRowDto> rows;
+        if (dto.getBookingIds() != null && !dto.getBookingIds().isEmpty()) {
+            if (dto.getCheckOutDate() != null || dto.getHotelId() != null) {
+                throw new IllegalArgumentException("Give either booking ids or a filter, not both");
+            }
+            for (Long bookingId : dto.getBookingIds()) {
+                if (bookingId == null) {
+                    throw new IllegalArgumentException("Booking ids must not be null");
+                }
+                requestedIds.add(bookingId);
+            }
+            if (requestedIds.size() > MAX_BULK_BOOKINGS) {
+                throw new IllegalArgumentException("A bulk update can change at most " + MAX_BULK_BOOKINGS + " bookings");
+            }
+            rows = bookingBatchRepository.lockStatusRows(requestedIds);
+        } else {
+            if (dto.getCurrentStatus() == null || dto.getCheckOutDate() == null) {
+                throw new IllegalArgumentException("Without booking ids, currentStatus and checkOutDate are required");
+            }
+            rows = bookingBatchRepository.lockStatusRows(dto.getCurrentStatus(), dto.getCheckOutDate(), dto.getHotelId());
+        }
+
+        Map<Long, BookingStatusOutcomeDto> outcomes = new TreeMap<>();
+        List<BookingStatusRowDto> changed = new ArrayList<>();
+        for (BookingStatusRowDto row : rows) {
+            requestedIds.remove(row.getBookingId());
+            if (row.getStatus() == status) {
+                outcomes.put(row.getBookingId(), new BookingStatusOutcomeDto(
+                        row.getBookingId(), row.getStatus(), OUTCOME_UNCHANGED, null));
+            } else if (dto.getCurrentStatus() != null && dto.getCurrentStatus() != row.getStatus()) {
+                // With ids, currentStatus is a guard against bookings that moved since the caller looked.
+                outcomes.put(row.getBookingId(), new BookingStatusOutcomeDto(row.getBookingId(), row.getStatus(),
+                        OUTCOME_UNCHANGED, "Booking is no longer " + dto.getCurrentStatus()));
+            } else if (!row.getStatus().canMoveTo(status)) {
+                outcomes.put(row.getBookingId(), new BookingStatusOutcomeDto(row.getBookingId(), row.getStatus(),
+                        OUTCOME_REJECTED, "Cannot move from " + row.getStatus() + " to " + status));
+            } else if (!RoomAvailabilityIndex.isBlocking(row.getStatus()) && RoomAvailabilityIndex.isBlocking(status)) {
+                // Taking the room back needs the per-room overlap check, which stays on the single-booking path.
+                outcomes.put(row.getBookingId(), new BookingStatusOutcomeDto(row.getBookingId(), row.getStatus(),
+                        OUTCOME_REJECTED, "Reactivating a booking must go through PATCH /api/bookings/{id}/status"));
+            } else {
+                outcomes.put(row.getBookingId(), new BookingStatusOutcomeDto(
+                        row.getBookingId(), row.getStatus(), OUTCOME_UPDATED, null));
+                changed.add(row);
+            }
+        }
+        for (Long missingId : requestedIds) {
+            outcomes.put(missingId, new BookingStatusOutcomeDto(missingId, null, OUTCOME_NOT_FOUND, null));
+        }
+
+        if (!changed.isEmpty()) {
+            applyStatuses(changed, status);
+        }
+
+        return BulkStatusUpdateResultDto.builder()
+                .status(status)
+                .updated(changed.size())
+                .outcomes(new ArrayList<>(outcomes.values()))
+                .build();
+    }
+
+    // Same as applyStatus, but one UPDATE for all bookings.
+    private void applyStatuses(List<BookingStatusRowDto> rows, BookingStatus status) {
+        bookingRepository.updateStatusByIdIn(rows.stream().map(BookingStatusRowDto::getBookingId).toList(), status);
+        for (BookingStatusRowDto row : rows) {
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(row.getBookingId(), row.getRoomId(),
+                    row.getRoomTypeId(), row.getCity(), row.getCheckInDate(), row.getCheckOutDate(),
+                    row.getStatus(), status));
+        }
+    }
+
+    // A reference is enough to link the booking; the customer row itself is never loaded.
+    private Customer findOrCreateCustomer(String email, String firstName, String lastName, String phoneNumber) {
+        Long customerId = customerResolver.resolveId(email, firstName, lastName, phoneNumber);
+        return customerRepository.getReferenceById(customerId);
+    }
+
+    private void checkNoOverlap(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (bookingRepository.existsOverlappingBooking(roomId, checkInDate, checkOutDate,
+                RoomAvailabilityIndex.BLOCKING_STATUSES)) {
+            throw new BookingConflictException("Room " + roomId + " is already booked between "
+                    + checkInDate + " and " + checkOutDate);
+        }
+        if (bookingHoldService.isHeld(roomId, checkInDate, checkOutDate)) {
+            throw new BookingConflictException("Room " + roomId + " is held by another guest between "
+                    + checkInDate + " and " + checkOutDate);
+        }
+    }
+
+    private void publishStatusChange(Booking booking, BookingStatus previousStatus) {
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(
+                booking.getId(),
+                booking.getRoom().getId(),
+                roomTypeIdOf(booking.getRoom()),
+                cityOf(booking.getRoom()),
+                booking.getCheckInDate(),
+                booking.getCheckOutDate(),
+                previousStatus,
+                booking.getStatus()
+        ));
+    }
+
+    private Long roomTypeIdOf(Room room) {
+        return room.getRoomType() != null ? room.getRoomType().getId() : null;
+    }
+
+    private String cityOf(Room room) {
+        if (room.getRoomType() == null || room.getRoomType().getHotel() == null) {
+            return null;
+        }
+        return room.getRoomType().getHotel().getCity();
+    }
+}
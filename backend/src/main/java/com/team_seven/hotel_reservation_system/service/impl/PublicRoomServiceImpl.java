@@ -1,34 +1,298 @@
 package com.team_seven.hotel_reservation_system.service.impl;
 
+import com.team_seven.hotel_reservation_system.dto.FlexibleDateOptionDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchCriteria;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchPageDto;
 import com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto;
-import com.team_seven.hotel_reservation_system.models.Hotel;
-import com.team_seven.hotel_reservation_system.models.Room;
-import com.team_seven.hotel_reservation_system.repositories.HotelRepository;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchSort;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeAvailabilityDto;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
 import com.team_seven.hotel_reservation_system.service.PublicRoomService;
+import com.team_seven.hotel_reservation_system.service.RoomAvailabilityIndex;
+import com.team_seven.hotel_reservation_system.service.RoomSearchCache;
+import com.team_seven.hotel_reservation_system.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class PublicRoomServiceImpl implements PublicRoomService {
+        private static final int MAX_PAGE_SIZE = 100;
+        private static final int MIN_SCAN_BATCH = 50;
+        private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+        private static final int MAX_FLEXIBLE_CANDIDATE_DAYS = 31;
+        private static final int MAX_FLEXIBLE_NIGHTS = 30;
+
         @Autowired
         private RoomTypeRepository roomTypeRepository;
 
+        @Autowired
+        private BookingRepository bookingRepository;
+
+        @Autowired
+        private RoomAvailabilityIndex availabilityIndex;
+
+        @Autowired
+        private RoomSearchCache searchCache;
+
+        // The index already blocks held rooms; the database fallbacks have to ask for them.
+        @Autowired
+        private BookingHoldService bookingHoldService;
+
         @Override
         public List<RoomSearchResultDto> findAvailableRooms(String city,
         LocalDate checkInDate,
         LocalDate checkOutDate,
         int guestCapacity){
-                return roomTypeRepository.findAvailableRoomTypes(
-                        city,
-                        checkInDate,
-                        checkOutDate,
-                        guestCapacity
-                );
+                return searchCache.getOrLoad(city, checkInDate, checkOutDate, guestCapacity, "rooms",
+                        () -> List.copyOf(searchAvailableRooms(city, checkInDate, checkOutDate, guestCapacity)));
+        }
+
+        private List<RoomSearchResultDto> searchAvailableRooms(String city,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int guestCapacity){
+                if (!availabilityIndex.isLoaded()) {
+                        return roomTypeRepository.findAvailableRoomTypes(
+                                city,
+                                checkInDate,
+                                checkOutDate,
+                                guestCapacity
+                        ).stream()
+                                .filter(room -> !bookingHoldService.isHeld(room.getRoomId(), checkInDate, checkOutDate))
+                                .collect(Collectors.toList());
+                }
+
+                // Catalog attributes come from the database, booked nights from the in-memory index.
+                return roomTypeRepository.findSearchCandidates(city, guestCapacity).stream()
+                        .filter(room -> availabilityIndex.isAvailable(room.getRoomId(), checkInDate, checkOutDate))
+                        .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<RoomTypeAvailabilityDto> findAvailableRoomTypes(String city,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int guestCapacity){
+                return searchCache.getOrLoad(city, checkInDate, checkOutDate, guestCapacity, "room-types",
+                        () -> List.copyOf(searchAvailableRoomTypes(city, checkInDate, checkOutDate, guestCapacity)));
+        }
+
+        private List<RoomTypeAvailabilityDto> searchAvailableRoomTypes(String city,
+        LocalDate checkInDate,
+        LocalDate checkOutDate,
+        int guestCapacity){
+                if (!availabilityIndex.isLoaded()) {
+                        return roomTypeRepository.findAvailableRoomTypeSummaries(
+                                city,
+                                checkInDate,
+                                checkOutDate,
+                                guestCapacity,
+                                bookingHoldService.heldRoomIds(checkInDate, checkOutDate)
+                        );
+                }
+
+                // One catalog row per room type; the index counts its free rooms.
+                List<RoomTypeAvailabilityDto> roomTypes = roomTypeRepository.findRoomTypeCandidates(city, guestCapacity);
+                for (RoomTypeAvailabilityDto roomType : roomTypes) {
+                        RoomAvailabilityIndex.TypeAvailability availability =
+                                availabilityIndex.countAvailable(roomType.getRoomTypeId(), checkInDate, checkOutDate);
+                        roomType.setAvailableRooms(availability.getAvailableRooms());
+                        roomType.setRepresentativeRoomId(availability.getRepresentativeRoomId());
+                }
+                return roomTypes.stream()
+                        .filter(roomType -> roomType.getAvailableRooms() > 0)
+                        .collect(Collectors.toList());
+        }
+
+        @Override
+        public RoomSearchPageDto findAvailableRoomsPage(RoomSearchCriteria criteria) {
+                int size = Math.min(Math.max(criteria.getSize(), 1), MAX_PAGE_SIZE);
+                RoomSearchSort sort = criteria.getSort() != null ? criteria.getSort() : RoomSearchSort.PRICE_ASC;
+                BigDecimal minPrice = criteria.getMinPrice() != null ? criteria.getMinPrice() : BigDecimal.ZERO;
+                BigDecimal maxPrice = criteria.getMaxPrice() != null ? criteria.getMaxPrice() : MAX_PRICE;
+                String variant = "page:" + sort + ":" + minPrice + ":" + maxPrice + ":" + size + ":" + criteria.getCursor();
+
+                return searchCache.getOrLoad(criteria.getCity(), criteria.getCheckInDate(), criteria.getCheckOutDate(),
+                        criteria.getGuestCapacity(), variant,
+                        () -> searchPage(criteria, sort, minPrice, maxPrice, size));
+        }
+
+        /**
+         * Walks the (pricePerNight, roomId) keyset in batches and drops booked rooms until one
+         * row more than the page size is found. Each batch starts where the previous one ended,
+         * so a deep page costs the same as the first.
+         */
+        private RoomSearchPageDto searchPage(RoomSearchCriteria criteria, RoomSearchSort sort,
+        BigDecimal minPrice, BigDecimal maxPrice, int size) {
+                BigDecimal keyPrice;
+                Long keyRoomId;
+                if (criteria.getCursor() != null && !criteria.getCursor().isBlank()) {
+                        String[] parts = KeysetCursor.decode(criteria.getCursor(), 2);
+                        keyPrice = new BigDecimal(parts[0]);
+                        keyRoomId = Long.valueOf(parts[1]);
+                } else if (sort == RoomSearchSort.PRICE_ASC) {
+                        keyPrice = BigDecimal.valueOf(-1);
+                        keyRoomId = 0L;
+                } else {
+                        keyPrice = MAX_PRICE.add(BigDecimal.ONE);
+                        keyRoomId = Long.MAX_VALUE;
+                }
+
+                int batchSize = Math.max(size * 2, MIN_SCAN_BATCH);
+                List<RoomSearchResultDto> page = new ArrayList<>(size + 1);
+
+                while (page.size() <= size) {
+                        List<RoomSearchResultDto> batch = sort == RoomSearchSort.PRICE_ASC
+                                ? roomTypeRepository.findSearchCandidatesByPriceAsc(criteria.getCity(),
+                                        criteria.getGuestCapacity(), minPrice, maxPrice, keyPrice, keyRoomId,
+                                        Limit.of(batchSize))
+                                : roomTypeRepository.findSearchCandidatesByPriceDesc(criteria.getCity(),
+                                        criteria.getGuestCapacity(), minPrice, maxPrice, keyPrice, keyRoomId,
+                                        Limit.of(batchSize));
+                        if (batch.isEmpty()) {
+                                break;
+                        }
+
+                        Set<Long> bookedRoomIds = findBookedRoomIds(batch, criteria.getCheckInDate(), criteria.getCheckOutDate());
+                        for (RoomSearchResultDto room : batch) {
+                                keyPrice = room.getPricePerNight();
+                                keyRoomId = room.getRoomId();
+                                if (!bookedRoomIds.contains(room.getRoomId())) {
+                                        page.add(room);
+                                        if (page.size() > size) {
+                                                break;
+                                        }
+                                }
+                        }
+                        if (batch.size() < batchSize) {
+                                break;
+                        }
+                }
+
+                boolean hasMore = page.size() > size;
+                List<RoomSearchResultDto> items = hasMore ? List.copyOf(page.subList(0, size)) : List.copyOf(page);
+                String nextCursor = null;
+                if (hasMore) {
+                        RoomSearchResultDto last = items.get(items.size() - 1);
+                        nextCursor = KeysetCursor.encode(last.getPricePerNight().toPlainString(), last.getRoomId());
+                }
+                return RoomSearchPageDto.builder()
+                        .items(items)
+                        .nextCursor(nextCursor)
+                        .hasMore(hasMore)
+                        .build();
+        }
+
+        private Set<Long> findBookedRoomIds(List<RoomSearchResultDto> rooms, LocalDate checkInDate, LocalDate checkOutDate) {
+                if (availabilityIndex.isLoaded()) {
+                        return rooms.stream()
+                                .map(RoomSearchResultDto::getRoomId)
+                                .filter(roomId -> !availabilityIndex.isAvailable(roomId, checkInDate, checkOutDate))
+                                .collect(Collectors.toSet());
+                }
+                List<Long> roomIds = rooms.stream().map(RoomSearchResultDto::getRoomId).collect(Collectors.toList());
+                Set<Long> bookedRoomIds = new HashSet<>(bookingRepository.findBookedRoomIds(roomIds, checkInDate, checkOutDate));
+                for (Long roomId : roomIds) {
+                        if (bookingHoldService.isHeld(roomId, checkInDate, checkOutDate)) {
+                                bookedRoomIds.add(roomId);
+                        }
+                }
+                return bookedRoomIds;
+        }
+
+        @Override
+        public List<FlexibleDateOptionDto> findFlexibleDates(String city,
+        LocalDate earliestCheckIn,
+        LocalDate latestCheckIn,
+        int nights,
+        int guestCapacity){
+                if (nights < 1 || nights > MAX_FLEXIBLE_NIGHTS) {
+                        throw new IllegalArgumentException("Stay length must be between 1 and " + MAX_FLEXIBLE_NIGHTS + " nights");
+                }
+                long candidateDays = ChronoUnit.DAYS.between(earliestCheckIn, latestCheckIn) + 1;
+                if (candidateDays < 1 || candidateDays > MAX_FLEXIBLE_CANDIDATE_DAYS) {
+                        throw new IllegalArgumentException("Check-in window must cover 1 to " + MAX_FLEXIBLE_CANDIDATE_DAYS + " days");
+                }
+
+                return searchCache.getOrLoad(city, earliestCheckIn, latestCheckIn.plusDays(nights), guestCapacity,
+                        "flexible:" + nights,
+                        () -> List.copyOf(searchFlexibleDates(city, earliestCheckIn, (int) candidateDays, nights, guestCapacity)));
+        }
+
+        private List<FlexibleDateOptionDto> searchFlexibleDates(String city,
+        LocalDate earliestCheckIn,
+        int candidateDays,
+        int nights,
+        int guestCapacity){
+                List<List<RoomTypeAvailabilityDto>> byStartDay = new ArrayList<>(candidateDays);
+                for (int day = 0; day < candidateDays; day++) {
+                        byStartDay.add(new ArrayList<>());
+                }
+
+                if (availabilityIndex.isLoaded()) {
+                        // One catalog query, then one sweep over each room's bitset for the whole window.
+                        for (RoomTypeAvailabilityDto roomType : roomTypeRepository.findRoomTypeCandidates(city, guestCapacity)) {
+                                RoomAvailabilityIndex.StartDayAvailability availability = availabilityIndex.countAvailableByStartDay(
+                                        roomType.getRoomTypeId(), earliestCheckIn, candidateDays, nights);
+                                for (int day = 0; day < candidateDays; day++) {
+                                        long availableRooms = availability.getAvailableRooms()[day];
+                                        if (availableRooms > 0) {
+                                                RoomTypeAvailabilityDto option = copyOf(roomType);
+                                                option.setAvailableRooms(availableRooms);
+                                                option.setRepresentativeRoomId(availability.getRepresentativeRoomIds()[day]);
+                                                byStartDay.get(day).add(option);
+                                        }
+                                }
+                        }
+                } else {
+                        for (int day = 0; day < candidateDays; day++) {
+                                LocalDate checkIn = earliestCheckIn.plusDays(day);
+                                byStartDay.get(day).addAll(roomTypeRepository.findAvailableRoomTypeSummaries(
+                                        city, checkIn, checkIn.plusDays(nights), guestCapacity,
+                                        bookingHoldService.heldRoomIds(checkIn, checkIn.plusDays(nights))));
+                        }
+                }
+
+                List<FlexibleDateOptionDto> options = new ArrayList<>();
+                for (int day = 0; day < candidateDays; day++) {
+                        List<RoomTypeAvailabilityDto> roomTypes = byStartDay.get(day);
+                        if (roomTypes.isEmpty()) {
+                                continue;
+                        }
+                        roomTypes.sort(Comparator.comparing(RoomTypeAvailabilityDto::getPricePerNight));
+                        LocalDate checkIn = earliestCheckIn.plusDays(day);
+                        options.add(FlexibleDateOptionDto.builder()
+                                .checkInDate(checkIn)
+                                .checkOutDate(checkIn.plusDays(nights))
+                                .lowestPricePerNight(roomTypes.get(0).getPricePerNight())
+                                .roomTypes(roomTypes)
+                                .build());
+                }
+                return options;
+        }
+
+        private RoomTypeAvailabilityDto copyOf(RoomTypeAvailabilityDto roomType) {
+                return new RoomTypeAvailabilityDto(
+                        roomType.getHotelId(),
+                        roomType.getHotelName(),
+                        roomType.getCity(),
+                        roomType.getRoomTypeId(),
+                        roomType.getRoomType(),
+                        roomType.getImageUrl(),
+                        roomType.getPricePerNight(),
+                        roomType.getCapacity());
         }
 }
@@ -1,30 +1,52 @@
 package com.team_seven.hotel_reservation_system.service.impl;
 
 import com.team_seven.hotel_reservation_system.dto.RoomDto;
+import com.team_seven.hotel_reservation_system.dto.RoomNightStatusDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
 import com.team_seven.hotel_reservation_system.models.Hotel; 
 import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomOccupancy;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
 import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
+import com.team_seven.hotel_reservation_system.service.RoomAvailabilityIndex;
 import com.team_seven.hotel_reservation_system.service.RoomService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class RoomServiceImpl implements RoomService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RoomRepository roomRepository;
     private final RoomTypeRepository roomTypeRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public RoomServiceImpl(RoomRepository roomRepository, RoomTypeRepository roomTypeRepository) {
+    public RoomServiceImpl(RoomRepository roomRepository, RoomTypeRepository roomTypeRepository,
+                           BookingRepository bookingRepository, ApplicationEventPublisher eventPublisher) {
         this.roomRepository = roomRepository;
         this.roomTypeRepository = roomTypeRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     private RoomDto toDto(Room r) {
@@ -71,23 +93,41 @@ public class RoomServiceImpl implements RoomService {
         dto.setId(null); 
         Room roomToSave = toEntity(dto);
         Room saved = roomRepository.save(roomToSave);
+        publishRoomChange(saved, null, null, saved.getRoomType());
         return toDto(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public RoomDto getById(Long id) {
-        return roomRepository.findById(id)
-                .map(this::toDto) 
+    public RoomDto getById(Long id, LocalDate date) {
+        RoomDto dto = roomRepository.findRoomDtoById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Room not found with ID: " + id));
+        dto.setOccupancy(RoomOccupancy.of(bookingRepository.findNightStatusesByRoomId(
+                id, nightOf(date), RoomAvailabilityIndex.BLOCKING_STATUSES)));
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomDto> getAll(LocalDate date) {
+        List<RoomDto> rooms = roomRepository.findAllRoomDtos();
+        // One query for the night's blocking bookings instead of one per room.
+        setOccupancy(rooms, bookingRepository.findNightStatuses(
+                nightOf(date), RoomAvailabilityIndex.BLOCKING_STATUSES));
+        return rooms;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<RoomDto> getAll() {
-        return roomRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    public Page<RoomDto> getPage(Long hotelId, Long roomTypeId, RoomStatus status, LocalDate date, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Page<RoomDto> rooms = roomRepository.findRoomPage(hotelId, roomTypeId, status, pageable);
+        if (rooms.hasContent()) {
+            List<Long> roomIds = rooms.getContent().stream().map(RoomDto::getId).toList();
+            setOccupancy(rooms.getContent(), bookingRepository.findNightStatusesByRoomIdIn(
+                    roomIds, nightOf(date), RoomAvailabilityIndex.BLOCKING_STATUSES));
+        }
+        return rooms;
     }
 
     @Override
@@ -99,20 +139,61 @@ public class RoomServiceImpl implements RoomService {
         RoomType newRoomType = roomTypeRepository.findById(dto.getRoomTypeId())
                 .orElseThrow(() -> new EntityNotFoundException("RoomType not found with ID: " + dto.getRoomTypeId()));
 
+        RoomType previousRoomType = existingRoom.getRoomType();
+        RoomStatus previousStatus = existingRoom.getStatus();
+        // The room change below names the new city only; a move between cities evicts the old one too.
+        if (!Objects.equals(cityOf(previousRoomType), cityOf(newRoomType))) {
+            publishCatalogChange(previousRoomType);
+        }
+
         existingRoom.setRoomNumber(dto.getRoomNumber());
         existingRoom.setStatus(dto.getStatus());
         existingRoom.setRoomType(newRoomType);
 
         Room updatedRoom = roomRepository.save(existingRoom);
+        publishRoomChange(updatedRoom, previousRoomType, previousStatus, newRoomType);
         return toDto(updatedRoom);
     }
 
     @Override
     @Transactional
     public void delete(Long id) {
-        if (!roomRepository.existsById(id)) {
-            throw new EntityNotFoundException("Room not found with ID: " + id);
+        Room room = roomRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Room not found with ID: " + id));
+        // Published before the delete so inventory listeners still see the room's bookings.
+        publishRoomChange(room, room.getRoomType(), room.getStatus(), null);
+        roomRepository.delete(room);
+    }
+
+    private void setOccupancy(List<RoomDto> rooms, List<RoomNightStatusDto> nightStatuses) {
+        Map<Long, List<BookingStatus>> statusesByRoomId = new HashMap<>();
+        for (RoomNightStatusDto row : nightStatuses) {
+            statusesByRoomId.computeIfAbsent(row.getRoomId(), roomId -> new ArrayList<>()).add(row.getStatus());
+        }
+        for (RoomDto room : rooms) {
+            room.setOccupancy(RoomOccupancy.of(statusesByRoomId.getOrDefault(room.getId(), List.of())));
         }
-        roomRepository.deleteById(id);
+    }
+
+    private LocalDate nightOf(LocalDate date) {
+        return date != null ? date : LocalDate.now();
+    }
+
+    private void publishCatalogChange(RoomType roomType) {
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(cityOf(roomType)));
+    }
+
+    // A null previous room type marks a new room, a null room type a deleted one.
+    private void publishRoomChange(Room room, RoomType previousRoomType, RoomStatus previousStatus, RoomType roomType) {
+        String city = cityOf(roomType != null ? roomType : previousRoomType);
+        Long previousRoomTypeId = (previousRoomType != null) ? previousRoomType.getId() : null;
+        Long roomTypeId = (roomType != null) ? roomType.getId() : null;
+        eventPublisher.publishEvent(new RoomCatalogChangedEvent(
+                city, room.getId(), previousRoomTypeId, roomTypeId, previousStatus, room.getStatus()));
+    }
+
+    private String cityOf(RoomType roomType) {
+        Hotel hotel = (roomType != null) ? roomType.getHotel() : null;
+        return hotel != null ? hotel.getCity() : null;
     }
 }
@@ -0,0 +1,180 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Small LRU cache with a per-entry time to live and hit/miss/eviction counters.
+ *
+ * Entries are evicted when the cache grows beyond {@code maxEntries} (least recently used first)
+ * or when they are read after their TTL has passed. {@link #getOrLoad} only stores a loaded value
+ * if no invalidation happened while it was being computed, so a slow load can never put a result
+ * back that an invalidation has already thrown away.
+ */
+public class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private long generation;
+
+    public BoundedTtlCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    public BoundedTtlCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && isExpired(entry)) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+            trimToSize();
+        }
+    }
+
+    /**
+     * Stores {@code value} unless a live entry exists; returns that entry's value, or null if
+     * {@code value} was stored.
+     */
+    public V putIfAbsent(K key, V value) {
+        synchronized (entries) {
+            V existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+            put(key, value);
+            return null;
+        }
+    }
+
+    public V getOrLoad(K key, Supplier<V> loader) {
+        long startGeneration;
+        synchronized (entries) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            startGeneration = generation;
+        }
+
+        V loaded = loader.get();
+
+        synchronized (entries) {
+            if (loaded != null && generation == startGeneration) {
+                put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public V remove(K key) {
+        synchronized (entries) {
+            generation++;
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                invalidations.incrementAndGet();
+            }
+            return removed == null ? null : removed.value;
+        }
+    }
+
+    public int invalidateIf(Predicate<? super K> predicate) {
+        synchronized (entries) {
+            generation++;
+            int removed = 0;
+            Iterator<K> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (predicate.test(keys.next())) {
+                    keys.remove();
+                    removed++;
+                }
+            }
+            invalidations.addAndGet(removed);
+            return removed;
+        }
+    }
+
+    public void invalidateAll() {
+        invalidateIf(key -> true);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return nanoClock.getAsLong() - entry.expiresAtNanos >= 0;
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel for many short-lived timeouts driven by a single ticking thread.
+ *
+ * Level 0 has {@code wheelSize} buckets of {@code tickMillis} each; every higher level has buckets
+ * as wide as the whole level below it, and levels are added on demand for far-away deadlines.
+ * Scheduling and cancelling are O(1). When the clock reaches the start of a higher-level bucket its
+ * entries are moved down to finer levels, so {@link #advanceTo} only ever touches entries whose
+ * bucket is due instead of scanning every pending timeout.
+ *
+ * Deadlines are rounded up to the next tick, so a timeout never fires early and fires at most one
+ * tick late.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private final List<Timeout<T>> overdue = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize above 1");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        levels.add(new Level(tickMillis, currentTime));
+    }
+
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long remainder = Math.floorMod(deadlineMillis, tickMillis);
+        long deadline = remainder == 0 ? deadlineMillis : deadlineMillis - remainder + tickMillis;
+        Timeout<T> timeout = new Timeout<>(this, payload, deadline);
+        if (!insert(timeout)) {
+            overdue.add(timeout);
+            timeout.bucket = overdue;
+        }
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the clock forward to {@code nowMillis} and returns the payloads of every timeout that
+     * is now due, in deadline order.
+     */
+    public synchronized List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        drain(overdue, expired);
+
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            List<Timeout<T>> due = new ArrayList<>();
+            for (Level level : levels) {
+                if (currentTime % level.tick != 0) {
+                    break;
+                }
+                level.currentTime = currentTime;
+                Set<Timeout<T>> bucket = level.buckets.get(level.slot(currentTime));
+                due.addAll(bucket);
+                bucket.clear();
+            }
+            for (Timeout<T> timeout : due) {
+                if (!insert(timeout)) {
+                    timeout.bucket = null;
+                    size--;
+                    expired.add(timeout.payload);
+                }
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void drain(List<Timeout<T>> timeouts, List<T> expired) {
+        for (Timeout<T> timeout : timeouts) {
+            timeout.bucket = null;
+            size--;
+            expired.add(timeout.payload);
+        }
+        timeouts.clear();
+    }
+
+    // Returns false when the deadline has already been reached and the timeout should fire now.
+    private boolean insert(Timeout<T> timeout) {
+        if (timeout.deadline <= currentTime) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level below = levels.get(i - 1);
+                long tick = below.tick * wheelSize;
+                levels.add(new Level(tick, below.currentTime - Math.floorMod(below.currentTime, tick)));
+            }
+            Level level = levels.get(i);
+            if (timeout.deadline < level.currentTime + level.tick * wheelSize) {
+                Set<Timeout<T>> bucket = level.buckets.get(level.slot(timeout.deadline));
+                bucket.add(timeout);
+                timeout.bucket = bucket;
+                return true;
+            }
+        }
+    }
+
+    private synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null || !timeout.bucket.remove(timeout)) {
+            return false;
+        }
+        timeout.bucket = null;
+        size--;
+        return true;
+    }
+
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadline;
+        private Collection<Timeout<T>> bucket;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T payload, long deadline) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Removes the timeout from the wheel; returns false if it already fired or was cancelled.
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    private final class Level {
+        private final long tick;
+        private final List<Set<Timeout<T>>> buckets;
+        private long currentTime;
+
+        private Level(long tick, long currentTime) {
+            this.tick = tick;
+            this.currentTime = currentTime;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        private int slot(long time) {
+            return (int) Math.floorMod(Math.floorDiv(time, tick), (long) wheelSize);
+        }
+    }
+}
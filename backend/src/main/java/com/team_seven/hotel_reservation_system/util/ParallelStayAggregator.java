@@ -0,0 +1,156 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums sold nights and revenue per key (a room type id, say) over a date range, in parallel.
+ *
+ * The range is cut into partitions of {@code partitionDays}; each partition streams its own stays
+ * from a {@link StaySource} and only counts the nights that fall inside it, so a stay crossing a
+ * boundary is seen by both partitions but counted once. Partitions run as fork-join tasks and
+ * their {@link Totals} are added up pairwise on the way back.
+ *
+ * Everything in the inner loop is primitive: keys are looked up in a sorted {@code long[]}, and
+ * revenue is kept in long minor units. A stay's total is spread evenly over its nights with the
+ * leftover minor units going to its first nights, so partitions always add up to the exact total.
+ */
+public class ParallelStayAggregator {
+
+    private final ForkJoinPool pool;
+    private final int partitionDays;
+
+    public ParallelStayAggregator(ForkJoinPool pool, int partitionDays) {
+        if (partitionDays <= 0) {
+            throw new IllegalArgumentException("partitionDays must be positive");
+        }
+        this.pool = pool;
+        this.partitionDays = partitionDays;
+    }
+
+    public int partitionsFor(LocalDate from, LocalDate toExclusive) {
+        long days = toExclusive.toEpochDay() - from.toEpochDay();
+        return days <= 0 ? 0 : (int) ((days + partitionDays - 1) / partitionDays);
+    }
+
+    /**
+     * Aggregates every night in {@code [from, toExclusive)}. {@code keys} are the keys to report
+     * on; stays with any other key are skipped.
+     */
+    public Totals aggregate(long[] keys, LocalDate from, LocalDate toExclusive, StaySource source) {
+        long[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        int partitions = partitionsFor(from, toExclusive);
+        if (partitions == 0) {
+            return new Totals(sortedKeys);
+        }
+        return pool.invoke(new PartitionTask(sortedKeys, from.toEpochDay(), toExclusive.toEpochDay(), 0, partitions, source));
+    }
+
+    /**
+     * Adds the nights of one stay that fall inside {@code [fromDay, toDay)} to {@code totals}.
+     */
+    static void addStay(Totals totals, long key, long checkInDay, long checkOutDay, long totalMinor,
+                        long fromDay, long toDay) {
+        int slot = Arrays.binarySearch(totals.keys, key);
+        long nights = checkOutDay - checkInDay;
+        long start = Math.max(checkInDay, fromDay);
+        long end = Math.min(checkOutDay, toDay);
+        if (slot < 0 || nights <= 0 || start >= end) {
+            return;
+        }
+        long perNight = Math.floorDiv(totalMinor, nights);
+        long leftover = Math.floorMod(totalMinor, nights);
+        // Nights 0 .. leftover-1 of the stay earn one extra minor unit.
+        long extra = Math.max(0, Math.min(end - checkInDay, leftover) - (start - checkInDay));
+        totals.roomNights[slot] += end - start;
+        totals.revenueMinor[slot] += perNight * (end - start) + extra;
+    }
+
+    private final class PartitionTask extends RecursiveTask<Totals> {
+        private final long[] keys;
+        private final long fromDay;
+        private final long toDay;
+        private final int firstPartition;
+        private final int endPartition;
+        private final StaySource source;
+
+        private PartitionTask(long[] keys, long fromDay, long toDay, int firstPartition, int endPartition,
+                              StaySource source) {
+            this.keys = keys;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.firstPartition = firstPartition;
+            this.endPartition = endPartition;
+            this.source = source;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (endPartition - firstPartition == 1) {
+                long partitionFrom = fromDay + (long) firstPartition * partitionDays;
+                long partitionTo = Math.min(partitionFrom + partitionDays, toDay);
+                Totals totals = new Totals(keys);
+                source.forEachStay(LocalDate.ofEpochDay(partitionFrom), LocalDate.ofEpochDay(partitionTo),
+                        (key, checkInDay, checkOutDay, totalMinor) ->
+                                addStay(totals, key, checkInDay, checkOutDay, totalMinor, partitionFrom, partitionTo));
+                return totals;
+            }
+            int middle = (firstPartition + endPartition) >>> 1;
+            PartitionTask left = new PartitionTask(keys, fromDay, toDay, firstPartition, middle, source);
+            PartitionTask right = new PartitionTask(keys, fromDay, toDay, middle, endPartition, source);
+            left.fork();
+            Totals totals = right.compute();
+            totals.add(left.join());
+            return totals;
+        }
+    }
+
+    /**
+     * Streams every stay overlapping {@code [from, toExclusive)} into {@code consumer}. Called once
+     * per partition, possibly from several threads at once.
+     */
+    @FunctionalInterface
+    public interface StaySource {
+        void forEachStay(LocalDate from, LocalDate toExclusive, StayConsumer consumer);
+    }
+
+    @FunctionalInterface
+    public interface StayConsumer {
+        void accept(long key, long checkInEpochDay, long checkOutEpochDay, long totalMinor);
+    }
+
+    /**
+     * Sold nights and revenue in minor units, indexed like the sorted keys.
+     */
+    public static final class Totals {
+        private final long[] keys;
+        private final long[] roomNights;
+        private final long[] revenueMinor;
+
+        Totals(long[] sortedKeys) {
+            this.keys = sortedKeys;
+            this.roomNights = new long[sortedKeys.length];
+            this.revenueMinor = new long[sortedKeys.length];
+        }
+
+        void add(Totals other) {
+            for (int i = 0; i < keys.length; i++) {
+                roomNights[i] += other.roomNights[i];
+                revenueMinor[i] += other.revenueMinor[i];
+            }
+        }
+
+        public long roomNights(long key) {
+            int slot = Arrays.binarySearch(keys, key);
+            return slot < 0 ? 0 : roomNights[slot];
+        }
+
+        public long revenueMinor(long key) {
+            int slot = Arrays.binarySearch(keys, key);
+            return slot < 0 ? 0 : revenueMinor[slot];
+        }
+    }
+}
@@ -5,6 +5,9 @@
 -- ==================================================================================
 -- 0. CLEANUP (Handle persistent volume pollution)
 -- ==================================================================================
+DROP TABLE IF EXISTS job_checkpoints CASCADE;
+DROP TABLE IF EXISTS hotel_daily_stats CASCADE;
+DROP TABLE IF EXISTS room_type_inventory CASCADE;
 DROP TABLE IF EXISTS bookings CASCADE;
 DROP TABLE IF EXISTS customer_roles CASCADE;
 DROP TABLE IF EXISTS customers CASCADE;
@@ -47,7 +50,7 @@ CREATE TABLE rooms (
     id SERIAL PRIMARY KEY,
     room_type_id INTEGER NOT NULL REFERENCES room_types(id),
     room_number VARCHAR(20) NOT NULL,
-    status VARCHAR(20) NOT NULL
+    status SMALLINT NOT NULL -- RoomStatus code: 1 AVAILABLE, 4 MAINTENANCE (2 and 3 retired)
 );
 
 CREATE TABLE customers (
@@ -73,10 +76,51 @@ CREATE TABLE bookings (
     check_out_date DATE,
     number_of_guests INTEGER,
     total_price NUMERIC(10, 2),
-    status VARCHAR(50),
+    status SMALLINT NOT NULL, -- BookingStatus code: 1 PENDING, 2 CONFIRMED, 3 CHECKED_IN, 4 CHECKED_OUT,
+                              -- 5 CANCELLED, 6 NO_SHOW, 7 COMPLETED
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Indexes backing room search: city -> room types by price -> rooms by id,
+-- plus the booking overlap check per room.
+CREATE INDEX idx_hotels_city ON hotels (city);
+CREATE INDEX idx_room_types_hotel_price ON room_types (hotel_id, price_per_night);
+CREATE INDEX idx_rooms_room_type ON rooms (room_type_id, id);
+CREATE INDEX idx_bookings_room_dates ON bookings (room_id, check_in_date, check_out_date);
+-- Keyset scans of the booking lifecycle job: one status, walked in id order.
+CREATE INDEX idx_bookings_status_id ON bookings (status, id);
+-- Admin booking list filtered by an exact status or status list, and room occupancy on a date.
+CREATE INDEX idx_bookings_status_check_in ON bookings (status, check_in_date);
+-- Keyset pages of the admin booking list, newest first.
+CREATE INDEX idx_bookings_created_id ON bookings (created_at, id);
+
+-- Free AVAILABLE rooms per room type and night; rooms under maintenance are not counted.
+-- Sparse: a missing row means every AVAILABLE room of the type is free.
+CREATE TABLE room_type_inventory (
+    room_type_id INTEGER NOT NULL REFERENCES room_types(id) ON DELETE CASCADE,
+    stay_date DATE NOT NULL,
+    available_rooms INTEGER NOT NULL,
+    PRIMARY KEY (room_type_id, stay_date)
+);
+
+-- Booked room nights and revenue per hotel, night and booking status, for the admin dashboard.
+-- Sparse like room_type_inventory; revenue is each booking's total price spread over its nights.
+CREATE TABLE hotel_daily_stats (
+    hotel_id INTEGER NOT NULL REFERENCES hotels(id) ON DELETE CASCADE,
+    stay_date DATE NOT NULL,
+    status SMALLINT NOT NULL, -- BookingStatus code
+    room_nights INTEGER NOT NULL,
+    revenue NUMERIC(14, 4) NOT NULL,
+    PRIMARY KEY (hotel_id, stay_date, status)
+);
+
+-- Progress of chunked background jobs: the last booking id a job finished.
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(100) PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP
+);
+
 -- ==================================================================================
 -- 2. DATA INSERTION (With Explicit IDs for Consistency)
 -- ==================================================================================
@@ -131,28 +175,28 @@ SELECT setval('room_types_id_seq', (SELECT MAX(id) FROM room_types));
 
 -- Rooms
 INSERT INTO rooms (id, room_type_id, room_number, status) VALUES
-(1, 1, '101', 'AVAILABLE'), (2, 1, '102', 'BOOKED'),
-(3, 2, '201', 'AVAILABLE'), (4, 2, '202', 'AVAILABLE'),
-(5, 3, '301', 'AVAILABLE'),
-(6, 4, 'P100', 'BOOKED'), (7, 4, 'P101', 'AVAILABLE'),
-(8, 5, 'P200', 'AVAILABLE'),
-(9, 6, 'R404', 'AVAILABLE'),
-(10, 7, 'B777', 'AVAILABLE'),
-(11, 8, 'C55', 'AVAILABLE'),
-(12, 9, 'V101', 'AVAILABLE'),
-(13, 10, 'V201', 'AVAILABLE'), (14, 10, 'V202', 'AVAILABLE'),
-(24, 10, 'V203', 'AVAILABLE'), (25, 10, 'V204', 'AVAILABLE'), (26, 10, 'V205', 'AVAILABLE'), -- More Doubles
-(15, 11, 'V301', 'BOOKED'), (27, 11, 'V302', 'AVAILABLE'), -- More Suites
-(16, 12, 'K401', 'AVAILABLE'), (17, 12, 'K402', 'BOOKED'),
-(18, 13, 'K500', 'AVAILABLE'),
-(19, 14, 'C808', 'AVAILABLE'), (20, 14, 'C809', 'AVAILABLE'),
-(21, 15, 'T01', 'BOOKED'), (22, 15, 'T02', 'AVAILABLE'),
-(23, 16, 'PH5201', 'AVAILABLE'),
-(28, 17, 'V401', 'AVAILABLE'), (29, 17, 'V402', 'AVAILABLE'), (30, 17, 'V403', 'AVAILABLE'), -- Superior Twins
-(31, 18, 'V501', 'AVAILABLE'), (32, 18, 'V502', 'AVAILABLE'), -- Family Suites
-(33, 19, 'S101', 'AVAILABLE'), (34, 19, 'S102', 'AVAILABLE'), -- Scandic Standard
-(35, 20, 'S201', 'AVAILABLE'), (36, 20, 'S202', 'AVAILABLE'), -- Scandic Superior
-(37, 21, 'V001', 'AVAILABLE'), (38, 21, 'V002', 'AVAILABLE'); -- Nordic Economy
+(1, 1, '101', 1), (2, 1, '102', 1),
+(3, 2, '201', 1), (4, 2, '202', 1),
+(5, 3, '301', 1),
+(6, 4, 'P100', 1), (7, 4, 'P101', 1),
+(8, 5, 'P200', 1),
+(9, 6, 'R404', 1),
+(10, 7, 'B777', 1),
+(11, 8, 'C55', 1),
+(12, 9, 'V101', 1),
+(13, 10, 'V201', 1), (14, 10, 'V202', 1),
+(24, 10, 'V203', 1), (25, 10, 'V204', 1), (26, 10, 'V205', 1), -- More Doubles
+(15, 11, 'V301', 1), (27, 11, 'V302', 1), -- More Suites
+(16, 12, 'K401', 1), (17, 12, 'K402', 1),
+(18, 13, 'K500', 1),
+(19, 14, 'C808', 1), (20, 14, 'C809', 1),
+(21, 15, 'T01', 1), (22, 15, 'T02', 1),
+(23, 16, 'PH5201', 1),
+(28, 17, 'V401', 1), (29, 17, 'V402', 1), (30, 17, 'V403', 1), -- Superior Twins
+(31, 18, 'V501', 1), (32, 18, 'V502', 1), -- Family Suites
+(33, 19, 'S101', 1), (34, 19, 'S102', 1), -- Scandic Standard
+(35, 20, 'S201', 1), (36, 20, 'S202', 1), -- Scandic Superior
+(37, 21, 'V001', 1), (38, 21, 'V002', 1); -- Nordic Economy
 SELECT setval('rooms_id_seq', (SELECT MAX(id) FROM rooms));
 
 -- Customers (Password for all accounts is 'password')
@@ -174,10 +218,33 @@ INSERT INTO customer_roles (customer_id, role_id) VALUES
 
 -- Bookings
 INSERT INTO bookings (id, customer_id, room_id, check_in_date, check_out_date, number_of_guests, total_price, status, created_at) VALUES
-(1, 1, 2, '2023-12-01', '2023-12-05', 1, 400.00, 'COMPLETED', NOW()),
-(2, 1, 3, '2025-06-10', '2025-06-15', 2, 750.00, 'CONFIRMED', NOW()),
-(3, 4, 19, '2025-07-01', '2025-07-05', 2, 2500.00, 'CONFIRMED', NOW()), -- Room 19 (C808) for Clarions
-(4, 5, 12, '2026-02-01', '2026-02-03', 1, 260.00, 'CONFIRMED', NOW()), -- Room 12 (V101) for Nordic
-(5, 4, 8, '2025-08-20', '2025-08-25', 1, 600.00, 'PENDING', NOW()), -- Room 8 (P200)
-(6, 1, 1, '2023-11-01', '2023-11-03', 1, 200.00, 'CANCELLED', NOW());
+(1, 1, 2, '2023-12-01', '2023-12-05', 1, 400.00, 7, NOW()),
+(2, 1, 3, '2025-06-10', '2025-06-15', 2, 750.00, 2, NOW()),
+(3, 4, 19, '2025-07-01', '2025-07-05', 2, 2500.00, 2, NOW()), -- Room 19 (C808) for Clarions
+(4, 5, 12, '2026-02-01', '2026-02-03', 1, 260.00, 2, NOW()), -- Room 12 (V101) for Nordic
+(5, 4, 8, '2025-08-20', '2025-08-25', 1, 600.00, 1, NOW()), -- Room 8 (P200)
+(6, 1, 1, '2023-11-01', '2023-11-03', 1, 200.00, 5, NOW());
 SELECT setval('bookings_id_seq', (SELECT MAX(id) FROM bookings));
+
+-- Room type inventory for the seeded bookings that hold an AVAILABLE room
+INSERT INTO room_type_inventory (room_type_id, stay_date, available_rooms)
+SELECT r.room_type_id, CAST(night AS DATE),
+       (SELECT COUNT(*) FROM rooms t WHERE t.room_type_id = r.room_type_id AND t.status = 1) - COUNT(*)
+FROM bookings b
+JOIN rooms r ON r.id = b.room_id
+CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS night
+WHERE b.status IN (2, 3) -- CONFIRMED, CHECKED_IN
+  AND r.status = 1 -- AVAILABLE
+GROUP BY r.room_type_id, CAST(night AS DATE);
+
+-- Dashboard counters for the seeded bookings
+INSERT INTO hotel_daily_stats (hotel_id, stay_date, status, room_nights, revenue)
+SELECT rt.hotel_id, CAST(night AS DATE), b.status, COUNT(*),
+       SUM(b.total_price / (b.check_out_date - b.check_in_date))
+FROM bookings b
+JOIN rooms r ON r.id = b.room_id
+JOIN room_types rt ON rt.id = r.room_type_id
+CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') AS night
+WHERE rt.hotel_id IS NOT NULL
+  AND b.check_out_date > b.check_in_date
+GROUP BY rt.hotel_id, CAST(night AS DATE), b.status;
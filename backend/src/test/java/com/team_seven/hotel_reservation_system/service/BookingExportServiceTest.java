@@ -0,0 +1,52 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.dto.BookingExportFormat;
+import com.team_seven.hotel_reservation_system.dto.BookingExportRowDto;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import jakarta.persistence.EntityManager;
+
+class BookingExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.parse("2026-01-01");
+    private static final LocalDate TO = LocalDate.parse("2026-02-01");
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final BookingExportService exportService =
+            new BookingExportService(bookingRepository, entityManager, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    @DisplayName("CSV rows are escaped and the persistence context is cleared once per fetch")
+    void export_Csv_EscapesAndClearsPerFetch() throws Exception {
+        int rows = BookingRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        when(bookingRepository.streamExportRows(FROM, TO)).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new BookingExportRowDto(id, null, FROM, FROM.plusDays(2), 2,
+                        new BigDecimal("190.00"), BookingStatus.CONFIRMED, "guest@example.com", "101",
+                        "Double, sea view", "The \"Nordic\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.export(FROM, TO, BookingExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(written).isEqualTo(rows);
+        assertThat(lines).hasSize(rows + 1);
+        assertThat(lines[0]).startsWith("booking_id,created_at,");
+        assertThat(lines[1]).isEqualTo("1,,2026-01-01,2026-01-03,2,190.00,CONFIRMED,guest@example.com,101,"
+                + "\"Double, sea view\",\"The \"\"Nordic\"\"\"");
+        verify(entityManager, times(2)).clear();
+    }
+}
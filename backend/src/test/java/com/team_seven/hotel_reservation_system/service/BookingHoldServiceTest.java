@@ -0,0 +1,103 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.team_seven.hotel_reservation_system.dto.BookingHoldDto;
+import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
+import com.team_seven.hotel_reservation_system.exception.BookingHoldNotFoundException;
+import com.team_seven.hotel_reservation_system.exception.TooManyHoldsException;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+
+class BookingHoldServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.parse("2026-06-01");
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingHoldService holdService = new BookingHoldService(new RoomLockStripes(16), roomRepository,
+            bookingRepository, mock(ApplicationEventPublisher.class), Duration.ofMinutes(10), Duration.ofMinutes(30),
+            Duration.ofSeconds(1), 4, 2, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(roomRepository.findById(anyLong())).thenAnswer(invocation -> {
+            Room room = new Room();
+            room.setId(invocation.getArgument(0));
+            room.setRoomType(RoomType.builder().pricePerNight(new BigDecimal("100.00")).build());
+            return Optional.of(room);
+        });
+        holdService.startTicker();
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdService.stopTicker();
+    }
+
+    @Test
+    @DisplayName("A hold can only be read, confirmed or released with the token it was created with")
+    void hold_RequiresItsToken() {
+        BookingHoldDto hold = holdService.createHold(request(1L, 0), null, "10.0.0.1");
+
+        assertThat(hold.getHoldToken()).isNotBlank();
+        assertThat(holdService.getHold(hold.getHoldId(), hold.getHoldToken()).getHoldToken()).isNull();
+        assertThatThrownBy(() -> holdService.getHold(hold.getHoldId(), null))
+                .isInstanceOf(BookingHoldNotFoundException.class);
+        assertThatThrownBy(() -> holdService.claim(hold.getHoldId(), "guessed"))
+                .isInstanceOf(BookingHoldNotFoundException.class);
+        assertThat(holdService.activeHolds()).isEqualTo(1);
+
+        holdService.release(hold.getHoldId(), hold.getHoldToken());
+
+        assertThat(holdService.activeHolds()).isZero();
+    }
+
+    @Test
+    @DisplayName("Holds are capped per client, per room and overall, and released holds free their slot")
+    void createHold_EnforcesCaps() {
+        BookingHoldDto first = holdService.createHold(request(1L, 0), null, "10.0.0.1");
+        holdService.createHold(request(1L, 7), null, "10.0.0.1");
+        assertThatThrownBy(() -> holdService.createHold(request(2L, 0), null, "10.0.0.1"))
+                .isInstanceOf(TooManyHoldsException.class)
+                .hasMessageContaining("per client");
+        assertThatThrownBy(() -> holdService.createHold(request(1L, 14), null, "10.0.0.2"))
+                .isInstanceOf(TooManyHoldsException.class)
+                .hasMessageContaining("Room 1");
+
+        holdService.createHold(request(2L, 0), null, "10.0.0.2");
+        holdService.createHold(request(3L, 0), null, "10.0.0.3");
+        assertThatThrownBy(() -> holdService.createHold(request(4L, 0), null, "10.0.0.4"))
+                .isInstanceOf(TooManyHoldsException.class)
+                .hasMessageContaining("Too many active holds");
+
+        holdService.release(first.getHoldId(), first.getHoldToken());
+        holdService.createHold(request(2L, 7), null, "10.0.0.1");
+        assertThat(holdService.activeHolds()).isEqualTo(4);
+        assertThat(holdService.heldRoomIds(CHECK_IN, CHECK_IN.plusDays(2))).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    private GuestBookingRequestDto request(Long roomId, int daysFromCheckIn) {
+        GuestBookingRequestDto dto = new GuestBookingRequestDto();
+        dto.setRoomId(roomId);
+        dto.setCheckInDate(CHECK_IN.plusDays(daysFromCheckIn));
+        dto.setCheckOutDate(CHECK_IN.plusDays(daysFromCheckIn + 2));
+        return dto;
+    }
+}
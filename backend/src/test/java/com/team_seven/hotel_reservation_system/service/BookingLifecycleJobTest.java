@@ -0,0 +1,64 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateResultDto;
+import com.team_seven.hotel_reservation_system.models.JobCheckpoint;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.JobCheckpointRepository;
+
+class BookingLifecycleJobTest {
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final JobCheckpointRepository checkpointRepository = mock(JobCheckpointRepository.class);
+    private final BookingLifecycleJob job = new BookingLifecycleJob(bookingService, mock(BookingRepository.class),
+            checkpointRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), 2);
+
+    @Test
+    @DisplayName("Resumes after the checkpoint, checkpoints every chunk and resets when the pass ends")
+    void process_ResumesFromCheckpointInChunks() {
+        when(checkpointRepository.findById(BookingLifecycleJob.NO_SHOW_JOB))
+                .thenReturn(Optional.of(new JobCheckpoint(BookingLifecycleJob.NO_SHOW_JOB, 5L, null)));
+        when(bookingService.updateStatuses(any()))
+                .thenAnswer(invocation -> BulkStatusUpdateResultDto.builder()
+                        .updated(invocation.<BulkStatusUpdateRequestDto>getArgument(0).getBookingIds().size())
+                        .build());
+        List<Long> scannedAfter = new ArrayList<>();
+        List<Long> overdue = List.of(3L, 7L, 8L, 9L);
+
+        int moved = job.process(BookingLifecycleJob.NO_SHOW_JOB, BookingStatus.CONFIRMED, BookingStatus.NO_SHOW, (afterId, limit) -> {
+            scannedAfter.add(afterId);
+            return overdue.stream().filter(id -> id > afterId).limit(limit.getPageSize()).toList();
+        });
+
+        assertThat(moved).isEqualTo(3);
+        assertThat(scannedAfter).containsExactly(5L, 8L);
+
+        ArgumentCaptor<BulkStatusUpdateRequestDto> requests = ArgumentCaptor.forClass(BulkStatusUpdateRequestDto.class);
+        verify(bookingService, times(2)).updateStatuses(requests.capture());
+        assertThat(requests.getAllValues()).extracting(BulkStatusUpdateRequestDto::getBookingIds)
+                .containsExactly(List.of(7L, 8L), List.of(9L));
+        assertThat(requests.getAllValues()).allSatisfy(request -> {
+            assertThat(request.getStatus()).isEqualTo(BookingStatus.NO_SHOW);
+            assertThat(request.getCurrentStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        });
+
+        ArgumentCaptor<JobCheckpoint> checkpoints = ArgumentCaptor.forClass(JobCheckpoint.class);
+        verify(checkpointRepository, times(3)).save(checkpoints.capture());
+        assertThat(checkpoints.getAllValues()).extracting(JobCheckpoint::getLastId).containsExactly(8L, 9L, 0L);
+    }
+}
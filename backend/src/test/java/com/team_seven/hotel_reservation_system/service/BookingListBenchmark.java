@@ -0,0 +1,243 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.Customer;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Role;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Heap allocated, SQL statements and entities loaded per admin booking-list page, for the old
+ * entity path and the {@code BookingSummaryDto} projection that replaced it.
+ *
+ * The entity path is the query the list used to run: bookings with customer, room and room type
+ * fetched, handed to Jackson as entities. The projection path is
+ * {@link BookingRepository#findAllSummaries}. Both run the same count query and serialize the page
+ * to JSON, each page in its own read-only transaction as a request would. Allocation is measured
+ * on the calling thread, so it includes Hibernate, the JDBC driver and Jackson. Not part of the
+ * normal build; run with {@code mvn test -Pbenchmark}. Size with {@code -Dbenchmark.operations=N}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookingListBenchmark {
+
+    private static final int ROOMS = 40;
+    private static final int CUSTOMERS = 200;
+    private static final int BOOKINGS = 4_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String ENTITY_PAGE_JPQL = """
+        SELECT b FROM Booking b
+        JOIN FETCH b.customer c
+        JOIN FETCH b.room r
+        JOIN FETCH r.roomType rt
+        ORDER BY b.id
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private TransactionTemplate readOnlyTransaction;
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void seed() {
+        Role user = new Role();
+        user.setName("ROLE_USER");
+        entityManager.persist(user);
+        Hotel hotel = new Hotel();
+        hotel.setName("Harbour");
+        hotel.setCity("Vaasa");
+        entityManager.persist(hotel);
+        RoomType type = RoomType.builder()
+                .hotel(hotel)
+                .name("Standard")
+                .pricePerNight(new BigDecimal("100.00"))
+                .capacity(2)
+                .build();
+        entityManager.persist(type);
+
+        List<Room> rooms = new ArrayList<>();
+        for (int r = 0; r < ROOMS; r++) {
+            Room room = Room.builder().roomType(type).roomNumber("R-" + r).status(RoomStatus.AVAILABLE).build();
+            entityManager.persist(room);
+            rooms.add(room);
+        }
+        List<Customer> customers = new ArrayList<>();
+        for (int c = 0; c < CUSTOMERS; c++) {
+            Customer customer = new Customer();
+            customer.setEmail("guest" + c + "@example.com");
+            customer.setPassword("{noop}secret");
+            customer.setRoles(new HashSet<>(Set.of(user)));
+            entityManager.persist(customer);
+            customers.add(customer);
+        }
+        LocalDate base = LocalDate.parse("2026-01-01");
+        for (int b = 0; b < BOOKINGS; b++) {
+            Booking booking = new Booking();
+            booking.setCustomer(customers.get(b % CUSTOMERS));
+            booking.setRoom(rooms.get(b % ROOMS));
+            booking.setCheckInDate(base.plusDays(b / ROOMS * 2L));
+            booking.setCheckOutDate(base.plusDays(b / ROOMS * 2L + 2));
+            booking.setNumberOfGuests(2);
+            booking.setTotalPrice(new BigDecimal("200.00"));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            entityManager.persist(booking);
+            if (b % 500 == 499) {
+                entityManager.flush();
+                entityManager.clear();
+                rooms.replaceAll(room -> entityManager.getReference(Room.class, room.getId()));
+                customers.replaceAll(customer -> entityManager.getReference(Customer.class, customer.getId()));
+            }
+        }
+    }
+
+    @Test
+    void allocationsPerBookingListPage() {
+        int operations = Integer.getInteger("benchmark.operations", 500);
+
+        run(operations, this::entityPage);
+        run(operations, this::projectionPage);
+        Run entities = run(operations, this::entityPage);
+        Run projections = run(operations, this::projectionPage);
+
+        System.out.println(">>> Benchmark: " + operations + " pages of " + PAGE_SIZE + " out of " + BOOKINGS + " bookings");
+        System.out.println(">>> Entities:    " + entities);
+        System.out.println(">>> Projections: " + projections);
+
+        // Bookings, customers, rooms and room types become managed entities on the old path only.
+        assertThat(projections.entitiesPerOperation()).isZero();
+        assertThat(entities.entitiesPerOperation()).isGreaterThanOrEqualTo(PAGE_SIZE);
+        assertThat(projections.bytesPerOperation()).isLessThan(entities.bytesPerOperation());
+        assertThat(projections.statementsPerOperation()).isLessThanOrEqualTo(entities.statementsPerOperation());
+    }
+
+    private byte[] entityPage(int page) {
+        List<Booking> bookings = entityManager.createQuery(ENTITY_PAGE_JPQL, Booking.class)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        long total = entityManager.createQuery("SELECT COUNT(b) FROM Booking b", Long.class).getSingleResult();
+        return json(new PageBody(bookings, total));
+    }
+
+    private byte[] projectionPage(int page) {
+        var summaries = bookingRepository.findAllSummaries(PageRequest.of(page, PAGE_SIZE, Sort.by("id")));
+        return json(new PageBody(summaries.getContent(), summaries.getTotalElements()));
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Run run(int operations, IntFunction<byte[]> operation) {
+        int pages = BOOKINGS / PAGE_SIZE;
+        statistics.clear();
+        long startBytes = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long jsonBytes = 0;
+        for (int i = 0; i < operations; i++) {
+            int page = i % pages;
+            jsonBytes += readOnlyTransaction.execute(status -> operation.apply(page)).length;
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - startBytes;
+        return new Run(operations, allocated, statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(),
+                jsonBytes, micros);
+    }
+
+    private record PageBody(List<?> content, long totalElements) {
+    }
+
+    private record Run(int operations, long allocatedBytes, long statements, long entities, long jsonBytes,
+                       long micros) {
+
+        long bytesPerOperation() {
+            return allocatedBytes / operations;
+        }
+
+        double statementsPerOperation() {
+            return (double) statements / operations;
+        }
+
+        double entitiesPerOperation() {
+            return (double) entities / operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d KB allocated/op, %.2f statements/op, %.1f entities/op, %d JSON bytes/op, %d us/op",
+                    bytesPerOperation() / 1024, statementsPerOperation(), entitiesPerOperation(),
+                    jsonBytes / operations, micros / operations);
+        }
+    }
+}
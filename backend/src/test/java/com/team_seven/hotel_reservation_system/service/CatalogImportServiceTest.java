@@ -0,0 +1,154 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportErrorDto;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportFormat;
+import com.team_seven.hotel_reservation_system.dto.CatalogImportResultDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomsImportedEvent;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.CatalogImportRepository;
+
+class CatalogImportServiceTest {
+
+    private final CatalogImportRepository importRepository = mock(CatalogImportRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Hotel> hotels = new ArrayList<>();
+    private final List<RoomType> roomTypes = new ArrayList<>();
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<String> inserts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong nextId = new AtomicLong(100);
+        when(importRepository.allocateIds(anyString(), anyInt())).thenAnswer(invocation -> LongStream
+                .range(0, invocation.<Integer>getArgument(1))
+                .mapToObj(i -> nextId.getAndIncrement())
+                .toList());
+        when(importRepository.findHotelIds()).thenReturn(List.of(7L));
+        when(importRepository.findRoomTypeIds()).thenReturn(List.of(70L));
+        // The service reuses its buffers after each batch, so copy them as they are inserted.
+        doAnswer(invocation -> record("hotels", hotels, invocation.getArgument(0)))
+                .when(importRepository).insertHotels(anyList());
+        doAnswer(invocation -> record("roomTypes", roomTypes, invocation.getArgument(0)))
+                .when(importRepository).insertRoomTypes(anyList());
+        doAnswer(invocation -> record("rooms", rooms, invocation.getArgument(0)))
+                .when(importRepository).insertRooms(anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON rows resolve refs and existing ids in memory, and bad rows are reported by line")
+    void importCatalog_Ndjson_ResolvesRefsAndReportsErrors() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"type\":\"hotel\",\"ref\":\"H1\",\"name\":\"Harbour\",\"city\":\"Vaasa\",\"rating\":4.5}",
+                "{\"type\":\"roomType\",\"ref\":\"H1-STD\",\"hotelRef\":\"H1\",\"name\":\"Standard\",\"pricePerNight\":\"89.00\",\"capacity\":2}",
+                "{\"type\":\"room\",\"roomTypeRef\":\"H1-STD\",\"roomNumber\":\"101\"}",
+                "",
+                "{\"type\":\"room\",\"roomTypeRef\":\"H1-STD\",\"roomNumber\":\"102\",\"status\":\"Maintenance\"}",
+                "{\"type\":\"room\",\"roomTypeId\":70,\"roomNumber\":\"7-1\"}",
+                "{\"type\":\"roomType\",\"hotelId\":8,\"name\":\"Suite\",\"pricePerNight\":\"200\",\"capacity\":2}",
+                "{\"type\":\"room\",\"roomTypeRef\":\"H2-STD\",\"roomNumber\":\"201\"}",
+                "{\"type\":\"hotel\",\"ref\":\"H1\",\"name\":\"Copy\"}",
+                "{not json");
+
+        CatalogImportResultDto result = importCatalog(1000, CatalogImportFormat.NDJSON, ndjson);
+
+        assertThat(result.getRows()).isEqualTo(9);
+        assertThat(result.getHotelsCreated()).isEqualTo(1);
+        assertThat(result.getRoomTypesCreated()).isEqualTo(1);
+        assertThat(result.getRoomsCreated()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(4);
+        assertThat(result.getBatches()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(CatalogImportErrorDto::getLine).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(result.getErrors()).extracting(CatalogImportErrorDto::getMessage).startsWith(
+                "No existing row with hotelId 8", "Unknown roomTypeRef: H2-STD", "Duplicate ref: H1");
+        assertThat(result.getErrors().get(3).getMessage()).startsWith("Malformed JSON");
+
+        Hotel hotel = hotels.get(0);
+        assertThat(hotel.getRating()).isEqualByComparingTo(new BigDecimal("4.5"));
+        assertThat(roomTypes.get(0).getHotel().getId()).isEqualTo(hotel.getId());
+        assertThat(rooms).extracting(room -> room.getRoomType().getId())
+                .containsExactly(roomTypes.get(0).getId(), roomTypes.get(0).getId(), 70L);
+        assertThat(rooms.get(1).getStatus()).isEqualTo(RoomStatus.MAINTENANCE);
+
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(((RoomsImportedEvent) events.getAllValues().get(0)).getRooms()).hasSize(3);
+        assertThat(((RoomCatalogChangedEvent) events.getAllValues().get(1)).getCity()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV is read by header name and flushed in batches with parents before children")
+    void importCatalog_Csv_FlushesParentsFirstPerBatch() throws Exception {
+        String csv = "type,ref,name,hotelRef,pricePerNight,capacity,roomTypeRef,roomNumber,description\r\n"
+                + "hotel,H1,\"Harbour, Old Town\",,,,,,\"Two lines\r\nof \"\"text\"\"\"\r\n"
+                + "roomType,S,Standard,H1,89.00,2,,,\r\n"
+                + "room,,,,,,S,101,\r\n"
+                + "room,,,,,,S,102,\r\n"
+                + "room,,,,,,S,103,\r\n"
+                + "roomType,F,Family,H1,-5,4,,,\r\n";
+
+        CatalogImportResultDto result = importCatalog(2, CatalogImportFormat.CSV, csv);
+
+        assertThat(result.getRows()).isEqualTo(6);
+        assertThat(result.getBatches()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(8);
+            assertThat(error.getRef()).isEqualTo("F");
+            assertThat(error.getMessage()).isEqualTo("pricePerNight must be between 0 and 99999999.99");
+        });
+        assertThat(hotels.get(0).getName()).isEqualTo("Harbour, Old Town");
+        assertThat(hotels.get(0).getDescription()).isEqualTo("Two lines\r\nof \"text\"");
+        assertThat(rooms).extracting(Room::getRoomNumber).containsExactly("101", "102", "103");
+        assertThat(inserts).containsExactly("hotels", "roomTypes", "rooms", "rooms");
+    }
+
+    @Test
+    @DisplayName("A batch the database rejects fails the whole import and publishes nothing")
+    void importCatalog_FailedBatch_Propagates() {
+        doThrow(new DuplicateKeyException("rooms_room_number_key")).when(importRepository).insertRooms(anyList());
+        String ndjson = "{\"type\":\"room\",\"roomTypeId\":70,\"roomNumber\":\"7-1\"}";
+
+        assertThatThrownBy(() -> importCatalog(1000, CatalogImportFormat.NDJSON, ndjson))
+                .isInstanceOf(DuplicateKeyException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private CatalogImportResultDto importCatalog(int batchSize, CatalogImportFormat format, String body)
+            throws Exception {
+        CatalogImportService service = new CatalogImportService(importRepository, new ObjectMapper(),
+                eventPublisher, batchSize);
+        return service.importCatalog(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private <T> Object record(String table, List<T> inserted, List<T> batch) {
+        if (!batch.isEmpty()) {
+            inserts.add(table);
+            inserted.addAll(batch);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team_seven.hotel_reservation_system.controller.HotelController;
+import com.team_seven.hotel_reservation_system.dto.HotelDto;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+
+class CatalogSnapshotTest {
+
+    private final HotelService hotelService = mock(HotelService.class);
+    private final RoomTypeService roomTypeService = mock(RoomTypeService.class);
+    private final CatalogSnapshot catalogSnapshot = new CatalogSnapshot(hotelService, roomTypeService, new ObjectMapper());
+
+    @Test
+    @DisplayName("Reads share one snapshot; a change rebuilds it and only new content gets a new ETag")
+    void onRoomCatalogChanged_RebuildsAndKeepsEtagForSameContent() {
+        when(hotelService.getAll()).thenReturn(List.of(hotel(1L, "Nordic")));
+
+        String etag = catalogSnapshot.hotels().getEtag();
+        assertThat(catalogSnapshot.hotels().getEtag()).isEqualTo(etag);
+        assertThat(catalogSnapshot.roomTypes().getEtag()).isNotNull();
+        verify(hotelService, times(1)).getAll();
+
+        catalogSnapshot.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+        assertThat(catalogSnapshot.version()).isEqualTo(2);
+        assertThat(catalogSnapshot.hotels().getEtag()).isEqualTo(etag);
+
+        when(hotelService.getAll()).thenReturn(List.of(hotel(1L, "Nordic"), hotel(2L, "Scandic")));
+        catalogSnapshot.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+        assertThat(catalogSnapshot.hotels().getEtag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("A transaction rebuilds once after commit, and room edits or a rollback rebuild nothing")
+    void onRoomCatalogChanged_RebuildsOncePerTransaction() {
+        when(hotelService.getAll()).thenReturn(List.of(hotel(1L, "Nordic")));
+        catalogSnapshot.hotels();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogSnapshot.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+            catalogSnapshot.onRoomCatalogChanged(new RoomCatalogChangedEvent("Oulu"));
+            assertThat(catalogSnapshot.version()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(catalogSnapshot.version()).isEqualTo(2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogSnapshot.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        catalogSnapshot.onRoomCatalogChanged(
+                new RoomCatalogChangedEvent("Vaasa", 11L, 7L, 7L, RoomStatus.AVAILABLE, RoomStatus.MAINTENANCE));
+
+        assertThat(catalogSnapshot.version()).isEqualTo(2);
+        verify(hotelService, times(2)).getAll();
+    }
+
+    @Test
+    @DisplayName("A matching If-None-Match gets a bodiless 304")
+    void hotels_AnswersNotModified() throws Exception {
+        when(hotelService.getAll()).thenReturn(List.of(hotel(1L, "Nordic")));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new HotelController(hotelService, catalogSnapshot)).build();
+        String etag = catalogSnapshot.hotels().getEtag();
+
+        mvc.perform(get("/api/hotels"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().json("[{\"id\":1,\"name\":\"Nordic\"}]"));
+        mvc.perform(get("/api/hotels").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        verify(hotelService, times(1)).getAll();
+    }
+
+    private static HotelDto hotel(Long id, String name) {
+        return HotelDto.builder().id(id).name(name).city("Vaasa").build();
+    }
+}
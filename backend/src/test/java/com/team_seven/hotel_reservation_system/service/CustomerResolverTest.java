@@ -0,0 +1,63 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.team_seven.hotel_reservation_system.dto.CustomerResolutionStatsDto;
+import com.team_seven.hotel_reservation_system.repositories.CustomerUpsertRepository;
+
+class CustomerResolverTest {
+
+    private final CustomerUpsertRepository upsertRepository = mock(CustomerUpsertRepository.class);
+    private final CustomerResolver resolver = new CustomerResolver(upsertRepository, 100, Duration.ofHours(1));
+
+    @Test
+    @DisplayName("Repeat guests are resolved from the cache without another upsert")
+    void resolveId_RepeatGuest_SkipsUpsert() {
+        when(upsertRepository.upsertByEmail("guest@example.com", "Ann", "Lee", "123")).thenReturn(7L);
+
+        assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(7L);
+        assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(7L);
+        assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(7L);
+
+        verify(upsertRepository, times(1)).upsertByEmail(anyString(), any(), any(), any());
+        CustomerResolutionStatsDto stats = resolver.getStats();
+        assertThat(stats.getUpserts()).isEqualTo(1);
+        assertThat(stats.getCache().getHits()).isEqualTo(2);
+        assertThat(stats.getCache().getMisses()).isEqualTo(1);
+        assertThat(stats.getCache().getHitRatio()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    @DisplayName("A customer created by a rolled back transaction is not cached")
+    void resolveId_RolledBack_IsNotCached() {
+        when(upsertRepository.upsertByEmail("guest@example.com", "Ann", "Lee", "123")).thenReturn(7L, 8L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(7L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(8L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(resolver.resolveId("guest@example.com", "Ann", "Lee", "123")).isEqualTo(8L);
+        verify(upsertRepository, times(2)).upsertByEmail(anyString(), any(), any(), any());
+    }
+}
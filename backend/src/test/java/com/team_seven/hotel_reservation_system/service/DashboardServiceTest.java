@@ -0,0 +1,106 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team_seven.hotel_reservation_system.dto.DashboardSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.HotelRoomCountDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.HotelDailyStats;
+import com.team_seven.hotel_reservation_system.repositories.HotelDailyStatsRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+
+class DashboardServiceTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2026-03-10");
+
+    private final HotelDailyStatsRepository statsRepository = mock(HotelDailyStatsRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final DashboardService dashboardService = new DashboardService(statsRepository, roomRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), Runnable::run);
+
+    @Test
+    @DisplayName("A status change moves the booking's nights from the old status to the new one")
+    void onBookingStatusChanged_MovesNights() {
+        dashboardService.onBookingStatusChanged(new BookingStatusChangedEvent(
+                7L, 2L, 1L, "Vaasa", DAY, DAY.plusDays(2), BookingStatus.CONFIRMED, BookingStatus.CANCELLED));
+
+        verify(statsRepository).addBookingNights(7L, BookingStatus.CONFIRMED.getCode(), -1);
+        verify(statsRepository).addBookingNights(7L, BookingStatus.CANCELLED.getCode(), 1);
+    }
+
+    @Test
+    @DisplayName("Deltas run on the counter executor, not the booking thread, and a full queue fails nothing")
+    void onBookingStatusChanged_HandsDeltasToExecutor() {
+        List<Runnable> queued = new ArrayList<>();
+        DashboardService queuing = new DashboardService(statsRepository, roomRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), queued::add);
+        DashboardService full = new DashboardService(statsRepository, roomRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), task -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+        BookingStatusChangedEvent event = new BookingStatusChangedEvent(
+                7L, 2L, 1L, "Vaasa", DAY, DAY.plusDays(2), null, BookingStatus.CONFIRMED);
+
+        queuing.onBookingStatusChanged(event);
+        full.onBookingStatusChanged(event);
+        verifyNoInteractions(statsRepository);
+
+        queued.forEach(Runnable::run);
+        verify(statsRepository).addBookingNights(7L, BookingStatus.CONFIRMED.getCode(), 1);
+        verifyNoMoreInteractions(statsRepository);
+    }
+
+    @Test
+    @DisplayName("Reconcile rebuilds one month at a time, from the earliest counter or booking to the latest")
+    void reconcile_RebuildsMonthByMonth() {
+        when(statsRepository.findFirstStayDate()).thenReturn(LocalDate.parse("2026-02-14"));
+        when(statsRepository.findFirstCheckInDate()).thenReturn(LocalDate.parse("2026-01-30"));
+        when(statsRepository.findLastStayDate()).thenReturn(LocalDate.parse("2026-03-02"));
+        when(statsRepository.findLastCheckOutDate()).thenReturn(null);
+        when(statsRepository.insertNightsFromBookings(LocalDate.parse("2026-02-01"), LocalDate.parse("2026-03-01")))
+                .thenThrow(new IllegalStateException("deadlock"));
+
+        dashboardService.reconcile();
+
+        verify(statsRepository).deleteNights(LocalDate.parse("2026-01-01"), LocalDate.parse("2026-02-01"));
+        verify(statsRepository).deleteNights(LocalDate.parse("2026-02-01"), LocalDate.parse("2026-03-01"));
+        verify(statsRepository).deleteNights(LocalDate.parse("2026-03-01"), LocalDate.parse("2026-04-01"));
+        verify(statsRepository).insertNightsFromBookings(LocalDate.parse("2026-03-01"), LocalDate.parse("2026-04-01"));
+        verify(statsRepository, times(3)).deleteNights(any(), any());
+    }
+
+    @Test
+    @DisplayName("The summary fills empty nights and only counts occupying statuses")
+    void getSummary_FillsGapsAndSkipsCancelled() {
+        when(roomRepository.countRoomsByHotel()).thenReturn(List.of(new HotelRoomCountDto(1L, 4)));
+        when(statsRepository.findByStayDateBetweenOrderByHotelIdAscStayDateAsc(DAY, DAY.plusDays(1))).thenReturn(List.of(
+                new HotelDailyStats(1L, DAY, BookingStatus.CONFIRMED.getCode(), 2, new BigDecimal("200.0000")),
+                new HotelDailyStats(1L, DAY, BookingStatus.CHECKED_IN.getCode(), 1, new BigDecimal("95.5000")),
+                new HotelDailyStats(1L, DAY, BookingStatus.CANCELLED.getCode(), 1, new BigDecimal("80.0000"))));
+
+        DashboardSummaryDto summary = dashboardService.getSummary(DAY, DAY.plusDays(1), null);
+
+        assertThat(summary.getDays()).hasSize(2);
+        assertThat(summary.getDays().get(0).getOccupiedRooms()).isEqualTo(3);
+        assertThat(summary.getDays().get(0).getOccupancyRate()).isEqualTo(0.75);
+        assertThat(summary.getDays().get(0).getRoomNightsByStatus()).containsEntry(BookingStatus.CANCELLED, 1L);
+        assertThat(summary.getDays().get(1).getOccupiedRooms()).isZero();
+        assertThat(summary.getOccupiedRoomNights()).isEqualTo(3);
+        assertThat(summary.getAvailableRoomNights()).isEqualTo(8);
+        assertThat(summary.getRevenue()).isEqualByComparingTo("295.50");
+    }
+}
@@ -0,0 +1,88 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team_seven.hotel_reservation_system.exception.IdempotencyKeyMismatchException;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("Concurrent duplicates run the action once and all get its result")
+    void execute_ConcurrentDuplicates_RunOnce() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<IdempotencyStore.Outcome<Integer>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> store.execute("POST /api/bookings", "key-1", "body", () -> {
+                firstStarted.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            })));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> store.execute("POST /api/bookings", "key-1", "body",
+                        executions::incrementAndGet)));
+            }
+            release.countDown();
+
+            int replays = 0;
+            for (Future<IdempotencyStore.Outcome<Integer>> result : results) {
+                IdempotencyStore.Outcome<Integer> outcome = result.get(5, TimeUnit.SECONDS);
+                assertThat(outcome.getValue()).isEqualTo(1);
+                replays += outcome.isReplayed() ? 1 : 0;
+            }
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(replays).isEqualTo(7);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A key reused for a different request is rejected")
+    void execute_DifferentRequest_Rejected() {
+        store.execute("POST /api/bookings", "key-2", "body", () -> 1);
+
+        assertThatThrownBy(() -> store.execute("POST /api/bookings", "key-2", "other body", () -> 2))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("A failed request is not remembered, so a retry runs again")
+    void execute_Failure_NotStored() {
+        assertThatThrownBy(() -> store.execute("POST /api/bookings", "key-3", "body", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        IdempotencyStore.Outcome<Integer> retry = store.execute("POST /api/bookings", "key-3", "body", () -> 3);
+
+        assertThat(retry.getValue()).isEqualTo(3);
+        assertThat(retry.isReplayed()).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
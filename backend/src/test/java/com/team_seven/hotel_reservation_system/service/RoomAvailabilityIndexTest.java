@@ -0,0 +1,79 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+
+class RoomAvailabilityIndexTest {
+
+    private RoomAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomAvailabilityIndex(mock(BookingRepository.class), mock(RoomRepository.class));
+        index.reserve(1L, 10L, LocalDate.parse("2025-12-30"), LocalDate.parse("2026-01-03"));
+    }
+
+    @Test
+    @DisplayName("Overlapping ranges are unavailable, touching ranges are not")
+    void isAvailable_RangeOverlap() {
+        assertThat(index.isAvailable(1L, LocalDate.parse("2026-01-02"), LocalDate.parse("2026-01-05"))).isFalse();
+        assertThat(index.isAvailable(1L, LocalDate.parse("2025-12-01"), LocalDate.parse("2026-02-01"))).isFalse();
+        assertThat(index.isAvailable(1L, LocalDate.parse("2026-01-03"), LocalDate.parse("2026-01-05"))).isTrue();
+        assertThat(index.isAvailable(1L, LocalDate.parse("2025-12-28"), LocalDate.parse("2025-12-30"))).isTrue();
+        assertThat(index.isAvailable(2L, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-02"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Cancelling one of two overlapping bookings keeps the other's nights booked")
+    void release_KeepsRemainingStays() {
+        index.reserve(1L, 11L, LocalDate.parse("2026-01-02"), LocalDate.parse("2026-01-04"));
+
+        index.onBookingStatusChanged(new BookingStatusChangedEvent(
+                10L, 1L, 1L, "Vaasa", LocalDate.parse("2025-12-30"), LocalDate.parse("2026-01-03"), BookingStatus.CONFIRMED, BookingStatus.CANCELLED));
+
+        assertThat(index.isAvailable(1L, LocalDate.parse("2025-12-30"), LocalDate.parse("2026-01-02"))).isTrue();
+        assertThat(index.isAvailable(1L, LocalDate.parse("2026-01-03"), LocalDate.parse("2026-01-04"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Free rooms are counted per room type, skipping unsearchable rooms")
+    void countAvailable_GroupsByRoomType() {
+        index.registerRoom(1L, 5L, RoomStatus.AVAILABLE);
+        index.registerRoom(2L, 5L, RoomStatus.AVAILABLE);
+        index.registerRoom(3L, 5L, RoomStatus.MAINTENANCE);
+        index.registerRoom(4L, 6L, RoomStatus.AVAILABLE);
+
+        RoomAvailabilityIndex.TypeAvailability availability =
+                index.countAvailable(5L, LocalDate.parse("2026-01-01"), LocalDate.parse("2026-01-02"));
+
+        assertThat(availability.getAvailableRooms()).isEqualTo(1);
+        assertThat(availability.getRepresentativeRoomId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Start days are counted as available only when the whole stay is free")
+    void countAvailableByStartDay_SlidingStay() {
+        index.registerRoom(1L, 5L, RoomStatus.AVAILABLE);
+        index.registerRoom(2L, 5L, RoomStatus.AVAILABLE);
+
+        // Room 1 is booked for the nights of Dec 30 - Jan 2; room 2 is free.
+        // Candidate check-ins Dec 27 .. Jan 4 for a 3-night stay.
+        RoomAvailabilityIndex.StartDayAvailability availability =
+                index.countAvailableByStartDay(5L, LocalDate.parse("2025-12-27"), 9, 3);
+
+        assertThat(availability.getAvailableRooms()).containsExactly(2, 1, 1, 1, 1, 1, 1, 2, 2);
+        assertThat(availability.getRepresentativeRoomIds()[1]).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+
+class RoomSearchCacheTest {
+
+    private RoomSearchCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomSearchCache(100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    private List<String> search(String city, String from, String to) {
+        return cache.getOrLoad(city, LocalDate.parse(from), LocalDate.parse(to), 2, "rooms", () -> {
+            loads.incrementAndGet();
+            return List.of(city);
+        });
+    }
+
+    @Test
+    @DisplayName("A booking only evicts searches in its city whose dates overlap it")
+    void bookingEvictsOverlappingSearchesOnly() {
+        search("Vaasa", "2026-02-01", "2026-02-05");
+        search("Vaasa", "2026-03-01", "2026-03-05");
+        search("Helsinki", "2026-02-01", "2026-02-05");
+
+        cache.onBookingStatusChanged(new BookingStatusChangedEvent(
+                7L, 12L, 5L, "Vaasa", LocalDate.parse("2026-02-04"), LocalDate.parse("2026-02-06"), null, BookingStatus.CONFIRMED));
+
+        search("Vaasa", "2026-02-01", "2026-02-05");
+        search("Vaasa", "2026-03-01", "2026-03-05");
+        search("Helsinki", "2026-02-01", "2026-02-05");
+
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.getStats().getHits()).isEqualTo(2);
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A catalog change evicts every search for the city")
+    void catalogChangeEvictsCity() {
+        search("Vaasa", "2026-02-01", "2026-02-05");
+        search("Vaasa", "2026-03-01", "2026-03-05");
+
+        cache.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+        search("Vaasa", "2026-03-01", "2026-03-05");
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
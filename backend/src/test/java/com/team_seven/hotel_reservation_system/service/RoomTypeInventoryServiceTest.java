@@ -0,0 +1,149 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team_seven.hotel_reservation_system.dto.DailyAvailabilityDto;
+import com.team_seven.hotel_reservation_system.dto.IndexedRoomDto;
+import com.team_seven.hotel_reservation_system.dto.RoomTypeCalendarDto;
+import com.team_seven.hotel_reservation_system.event.BookingStatusChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomCatalogChangedEvent;
+import com.team_seven.hotel_reservation_system.event.RoomsImportedEvent;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomTypeInventory;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeInventoryRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
+
+class RoomTypeInventoryServiceTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.parse("2026-06-01");
+    private static final LocalDate CHECK_OUT = LocalDate.parse("2026-06-03");
+    private static final short AVAILABLE = RoomStatus.AVAILABLE.getCode();
+    private static final List<Short> BLOCKING = BookingStatus.codesOf(RoomAvailabilityIndex.BLOCKING_STATUSES);
+
+    private final RoomTypeInventoryRepository inventoryRepository = mock(RoomTypeInventoryRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomTypeRepository roomTypeRepository = mock(RoomTypeRepository.class);
+    private final RoomTypeInventoryService service = new RoomTypeInventoryService(inventoryRepository, roomRepository,
+            roomTypeRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    @DisplayName("Calendar counts only AVAILABLE rooms and fills nights without a row with that count")
+    void getMonthCalendar_CountsAvailableRoomsOnly() {
+        when(roomTypeRepository.existsById(7L)).thenReturn(true);
+        when(roomRepository.countByRoomTypeIdAndStatus(7L, RoomStatus.AVAILABLE)).thenReturn(3L);
+        when(inventoryRepository.findByRoomTypeIdAndStayDateBetweenOrderByStayDate(
+                7L, LocalDate.parse("2026-02-01"), LocalDate.parse("2026-02-28")))
+                .thenReturn(List.of(
+                        new RoomTypeInventory(7L, LocalDate.parse("2026-02-02"), 1),
+                        new RoomTypeInventory(7L, LocalDate.parse("2026-02-03"), -1)));
+
+        RoomTypeCalendarDto calendar = service.getMonthCalendar(7L, YearMonth.of(2026, 2));
+
+        assertThat(calendar.getTotalRooms()).isEqualTo(3);
+        assertThat(calendar.getDays()).hasSize(28);
+        assertThat(calendar.getDays().subList(0, 4)).extracting(DailyAvailabilityDto::getAvailableRooms)
+                .containsExactly(3L, 1L, 0L, 3L);
+        assertThat(calendar.getDays().get(2).isBookable()).isFalse();
+        verify(roomRepository, never()).countByRoomTypeIdAndStatus(7L, RoomStatus.MAINTENANCE);
+    }
+
+    @Test
+    @DisplayName("Bookings reserve and release the booked room's nights, and other transitions change nothing")
+    void onBookingStatusChanged_ReservesAndReleasesBookedRoom() {
+        service.onBookingStatusChanged(bookingEvent(null, BookingStatus.CONFIRMED));
+        service.onBookingStatusChanged(bookingEvent(BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN));
+        service.onBookingStatusChanged(bookingEvent(BookingStatus.CHECKED_IN, BookingStatus.CHECKED_OUT));
+        service.onBookingStatusChanged(bookingEvent(BookingStatus.CANCELLED, BookingStatus.NO_SHOW));
+
+        verify(inventoryRepository).reserveNights(7L, 11L, CHECK_IN, CHECK_OUT, AVAILABLE);
+        verify(inventoryRepository).releaseNights(7L, 11L, CHECK_IN, CHECK_OUT, AVAILABLE);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("New and deleted rooms are counted only while AVAILABLE")
+    void onRoomCatalogChanged_AddsAndRemovesAvailableRooms() {
+        service.onRoomCatalogChanged(roomEvent(null, 7L, null, RoomStatus.AVAILABLE));
+        service.onRoomCatalogChanged(roomEvent(null, 7L, null, RoomStatus.MAINTENANCE));
+        service.onRoomCatalogChanged(roomEvent(7L, null, RoomStatus.AVAILABLE, RoomStatus.AVAILABLE));
+        service.onRoomCatalogChanged(roomEvent(7L, null, RoomStatus.MAINTENANCE, RoomStatus.MAINTENANCE));
+
+        verify(inventoryRepository).addRoom(7L, 11L, BLOCKING);
+        verify(inventoryRepository).removeRoom(7L, 11L, BLOCKING);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Maintenance takes a room out of the counts and returning to AVAILABLE puts it back")
+    void onRoomCatalogChanged_FollowsStatusChanges() {
+        service.onRoomCatalogChanged(roomEvent(7L, 7L, RoomStatus.AVAILABLE, RoomStatus.MAINTENANCE));
+        service.onRoomCatalogChanged(roomEvent(7L, 7L, RoomStatus.MAINTENANCE, RoomStatus.AVAILABLE));
+        service.onRoomCatalogChanged(roomEvent(7L, 7L, RoomStatus.AVAILABLE, RoomStatus.AVAILABLE));
+        service.onRoomCatalogChanged(new RoomCatalogChangedEvent("Vaasa"));
+
+        verify(inventoryRepository).removeRoom(7L, 11L, BLOCKING);
+        verify(inventoryRepository).addRoom(7L, 11L, BLOCKING);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Moving a room to another type rebuilds both types from their bookings")
+    void onRoomCatalogChanged_TypeChangeRebuildsBothTypes() {
+        service.onRoomCatalogChanged(roomEvent(7L, 8L, RoomStatus.AVAILABLE, RoomStatus.MAINTENANCE));
+
+        verify(inventoryRepository).deleteByRoomTypeId(7L);
+        verify(inventoryRepository).insertFromBookings(7L, BLOCKING, AVAILABLE);
+        verify(inventoryRepository).deleteByRoomTypeId(8L);
+        verify(inventoryRepository).insertFromBookings(8L, BLOCKING, AVAILABLE);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Imported rooms are added per type, leaving out rooms under maintenance")
+    void onRoomsImported_AddsAvailableRoomsPerType() {
+        service.onRoomsImported(new RoomsImportedEvent(List.of(
+                new IndexedRoomDto(1L, 7L, RoomStatus.AVAILABLE),
+                new IndexedRoomDto(2L, 7L, RoomStatus.AVAILABLE),
+                new IndexedRoomDto(3L, 7L, RoomStatus.MAINTENANCE),
+                new IndexedRoomDto(4L, 8L, RoomStatus.MAINTENANCE))));
+
+        verify(inventoryRepository).addRooms(7L, 2);
+        verifyNoMoreInteractions(inventoryRepository);
+    }
+
+    @Test
+    @DisplayName("Reconcile rebuilds every room type and goes on past a failed one")
+    void reconcile_RebuildsEveryRoomType() {
+        when(roomTypeRepository.findAllIds()).thenReturn(List.of(7L, 8L, 9L));
+        when(inventoryRepository.insertFromBookings(eq(8L), anyCollection(), anyShort()))
+                .thenThrow(new IllegalStateException("deadlock"));
+
+        service.reconcile();
+
+        verify(inventoryRepository).insertFromBookings(7L, BLOCKING, AVAILABLE);
+        verify(inventoryRepository).insertFromBookings(9L, BLOCKING, AVAILABLE);
+        verify(inventoryRepository, times(3)).deleteByRoomTypeId(anyLong());
+    }
+
+    private BookingStatusChangedEvent bookingEvent(BookingStatus previousStatus, BookingStatus status) {
+        return new BookingStatusChangedEvent(1L, 11L, 7L, "Vaasa", CHECK_IN, CHECK_OUT, previousStatus, status);
+    }
+
+    private RoomCatalogChangedEvent roomEvent(Long previousRoomTypeId, Long roomTypeId,
+                                              RoomStatus previousStatus, RoomStatus status) {
+        return new RoomCatalogChangedEvent("Vaasa", 11L, previousRoomTypeId, roomTypeId, previousStatus, status);
+    }
+}
@@ -0,0 +1,95 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import com.team_seven.hotel_reservation_system.dto.RoomTypeDto;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(RoomTypeService.class)
+class RoomTypeServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomTypeService roomTypeService;
+
+    private Statistics statistics;
+    private Hotel seaside;
+
+    @BeforeEach
+    void setUp() {
+        Hotel city = hotel("City");
+        seaside = hotel("Seaside");
+        for (int i = 0; i < 12; i++) {
+            entityManager.persist(RoomType.builder()
+                    .hotel(i % 3 == 0 ? seaside : city)
+                    .name("Type " + i)
+                    .description("A long description")
+                    .imageUrl("https://example.com/" + i + ".jpg")
+                    .pricePerNight(new BigDecimal("100.00"))
+                    .capacity(2)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("The full list carries hotel names from a single statement")
+    void getAll_JoinsHotelInOneStatement() {
+        assertThat(roomTypeService.getAll(null))
+                .hasSize(12)
+                .allSatisfy(type -> assertThat(type.getHotelName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Hotel-scoped pages and dropdown options stay at a constant statement count")
+    void getPageAndOptions_ScopeToHotel() {
+        Page<RoomTypeDto> page = roomTypeService.getPage(seaside.getId(), 0, 3);
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).hasSize(3).allSatisfy(type -> assertThat(type.getHotelName()).isEqualTo("Seaside"));
+        assertThat(roomTypeService.getOptions(seaside.getId()))
+                .hasSize(4)
+                .allSatisfy(option -> assertThat(option.getHotelId()).isEqualTo(seaside.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        hotel.setCity("Vaasa");
+        return entityManager.persist(hotel);
+    }
+}
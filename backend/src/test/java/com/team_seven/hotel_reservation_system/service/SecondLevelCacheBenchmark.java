@@ -0,0 +1,225 @@
+package com.team_seven.hotel_reservation_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team_seven.hotel_reservation_system.models.Customer;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Role;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeInventoryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * SQL statements per booking and per login, with the second-level cache bypassed and in use.
+ *
+ * The booking path is the part of a booking that reads reference data: lock the room, price the
+ * stay from its room type and find the hotel's city for the dashboard counters. The login path is
+ * {@link CustomUserDetailsService#loadUserByUsername}. Every operation runs in its own
+ * transaction, as a new request would, against data committed once up front (the cache only
+ * takes rows that are committed). Not part of the normal build; run with
+ * {@code mvn test -Pbenchmark}. Size with {@code -Dbenchmark.operations=N}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CustomUserDetailsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecondLevelCacheBenchmark {
+
+    private static final int HOTELS = 5;
+    private static final int ROOM_TYPES_PER_HOTEL = 4;
+    private static final int ROOMS_PER_TYPE = 10;
+    private static final int CUSTOMERS = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomTypeInventoryRepository inventoryRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> roomIds = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeAll
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> seed());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void seed() {
+        Role user = role("ROLE_USER");
+        Role admin = role("ROLE_ADMIN");
+        for (int h = 0; h < HOTELS; h++) {
+            Hotel hotel = new Hotel();
+            hotel.setName("Hotel " + h);
+            hotel.setCity("City " + h);
+            entityManager.persist(hotel);
+            for (int t = 0; t < ROOM_TYPES_PER_HOTEL; t++) {
+                RoomType type = RoomType.builder()
+                        .hotel(hotel)
+                        .name("Type " + t)
+                        .pricePerNight(new BigDecimal("100.00").add(BigDecimal.valueOf(t * 25L)))
+                        .capacity(2)
+                        .build();
+                entityManager.persist(type);
+                for (int r = 0; r < ROOMS_PER_TYPE; r++) {
+                    Room room = Room.builder()
+                            .roomType(type)
+                            .roomNumber(h + "-" + t + "-" + r)
+                            .status(RoomStatus.AVAILABLE)
+                            .build();
+                    entityManager.persist(room);
+                    roomIds.add(room.getId());
+                }
+            }
+        }
+        for (int c = 0; c < CUSTOMERS; c++) {
+            Customer customer = new Customer();
+            customer.setEmail("guest" + c + "@example.com");
+            customer.setPassword("{noop}secret");
+            customer.setRoles(c % 10 == 0 ? new HashSet<>(Set.of(user, admin)) : new HashSet<>(Set.of(user)));
+            entityManager.persist(customer);
+            emails.add(customer.getEmail());
+        }
+    }
+
+    @Test
+    void statementsPerBookingAndLogin() {
+        int operations = Integer.getInteger("benchmark.operations", 2_000);
+
+        Run uncachedBookings = run(CacheMode.IGNORE, operations, this::bookingReads);
+        Run uncachedLogins = run(CacheMode.IGNORE, operations, this::login);
+        run(CacheMode.NORMAL, roomIds.size() + emails.size(), i -> {
+            bookingReads(i);
+            login(i);
+        });
+        Run cachedBookings = run(CacheMode.NORMAL, operations, this::bookingReads);
+        Run cachedLogins = run(CacheMode.NORMAL, operations, this::login);
+
+        System.out.println(">>> Benchmark: " + operations + " operations each, " + roomIds.size() + " rooms, "
+                + emails.size() + " customers");
+        System.out.println(">>> Booking: " + uncachedBookings + " without cache, " + cachedBookings + " with cache");
+        System.out.println(">>> Login:   " + uncachedLogins + " without cache, " + cachedLogins + " with cache");
+
+        // Room lock only; room type and hotel come from the cache.
+        assertThat(uncachedBookings.statementsPerOperation()).isEqualTo(3.0);
+        assertThat(cachedBookings.statementsPerOperation()).isEqualTo(1.0);
+        // Customer by email only; role ids and roles come from the cache.
+        assertThat(uncachedLogins.statementsPerOperation()).isEqualTo(2.0);
+        assertThat(cachedLogins.statementsPerOperation()).isEqualTo(1.0);
+    }
+
+    @Test
+    void inventoryWritesKeepReferenceEntitiesCached() {
+        run(CacheMode.NORMAL, roomIds.size(), this::bookingReads);
+        RoomType roomType = transaction.execute(status -> {
+            RoomType type = roomRepository.findById(roomIds.get(0)).orElseThrow().getRoomType();
+            type.getHotel().getId();
+            return type;
+        });
+        Long roomTypeId = roomType.getId();
+        Long hotelId = roomType.getHotel().getId();
+
+        transaction.executeWithoutResult(status -> inventoryRepository.releaseNights(roomTypeId, roomIds.get(0),
+                LocalDate.parse("2026-06-01"), LocalDate.parse("2026-06-03"), RoomStatus.AVAILABLE.getCode()));
+
+        assertThat(entityManagerFactory.getCache().contains(RoomType.class, roomTypeId)).isTrue();
+        assertThat(entityManagerFactory.getCache().contains(Hotel.class, hotelId)).isTrue();
+    }
+
+    private void bookingReads(int i) {
+        Room room = roomRepository.findByIdForUpdate(roomIds.get(i % roomIds.size())).orElseThrow();
+        assertThat(room.getRoomType().getPricePerNight()).isPositive();
+        assertThat(room.getRoomType().getHotel().getCity()).startsWith("City");
+    }
+
+    private void login(int i) {
+        assertThat(userDetailsService.loadUserByUsername(emails.get(i % emails.size())).getAuthorities()).isNotEmpty();
+    }
+
+    private Run run(CacheMode cacheMode, int operations, Operation operation) {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            int operationIndex = i;
+            transaction.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(cacheMode);
+                operation.run(operationIndex);
+            });
+        }
+        long micros = (System.nanoTime() - start) / 1_000;
+        return new Run(operations, statistics.getPrepareStatementCount(), micros);
+    }
+
+    private Role role(String name) {
+        Role role = new Role();
+        role.setName(name);
+        entityManager.persist(role);
+        return role;
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(int i);
+    }
+
+    private record Run(int operations, long statements, long micros) {
+
+        double statementsPerOperation() {
+            return (double) statements / operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.2f statements/op, %d us/op", statementsPerOperation(), micros / operations);
+        }
+    }
+}
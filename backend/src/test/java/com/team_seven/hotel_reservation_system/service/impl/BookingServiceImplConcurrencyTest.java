@@ -0,0 +1,220 @@
+package com.team_seven.hotel_reservation_system.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
+import com.team_seven.hotel_reservation_system.exception.BookingConflictException;
+import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.Customer;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.CustomerRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
+import com.team_seven.hotel_reservation_system.service.CustomerResolver;
+import com.team_seven.hotel_reservation_system.service.RoomLockStripes;
+
+/**
+ * Hammers {@link BookingServiceImpl#createBooking} from many threads against an in-memory booking
+ * store whose overlap check and insert are deliberately slow, so an unguarded check-then-insert
+ * would double-book.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BookingServiceImplConcurrencyTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.parse("2026-03-01");
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingHoldService bookingHoldService;
+
+    @Mock
+    private CustomerResolver customerResolver;
+
+    @Spy
+    private RoomLockStripes roomLocks = new RoomLockStripes(64);
+
+    @InjectMocks
+    private BookingServiceImpl bookingService;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final List<Booking> savedBookings = new CopyOnWriteArrayList<>();
+    private final Map<Long, AtomicInteger> writersPerRoom = new ConcurrentHashMap<>();
+    private final AtomicInteger maxWritersPerRoom = new AtomicInteger();
+    private volatile CountDownLatch blockRoomOneSave;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        RoomType roomType = new RoomType();
+        roomType.setId(1L);
+        roomType.setPricePerNight(new BigDecimal("100.00"));
+        for (long id = 1; id <= 8; id++) {
+            Room room = new Room();
+            room.setId(id);
+            room.setRoomType(roomType);
+            room.setStatus(RoomStatus.AVAILABLE);
+            rooms.put(id, room);
+        }
+
+        Customer customer = new Customer();
+        customer.setId(1L);
+        customer.setEmail("load@example.com");
+
+        when(customerResolver.resolveId(anyString(), any(), any(), any())).thenReturn(1L);
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
+        when(roomRepository.findByIdForUpdate(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(rooms.get(invocation.<Long>getArgument(0))));
+        when(bookingRepository.existsOverlappingBooking(anyLong(), any(), any(), anyCollection()))
+            .thenAnswer(invocation -> {
+                Long roomId = invocation.getArgument(0);
+                LocalDate checkIn = invocation.getArgument(1);
+                LocalDate checkOut = invocation.getArgument(2);
+                boolean overlaps = savedBookings.stream().anyMatch(b -> b.getRoom().getId().equals(roomId)
+                    && b.getCheckInDate().isBefore(checkOut) && b.getCheckOutDate().isAfter(checkIn));
+                Thread.sleep(1);
+                return overlaps;
+            });
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            Long roomId = booking.getRoom().getId();
+            int writers = writersPerRoom.computeIfAbsent(roomId, id -> new AtomicInteger()).incrementAndGet();
+            maxWritersPerRoom.accumulateAndGet(writers, Math::max);
+            try {
+                CountDownLatch latch = blockRoomOneSave;
+                if (latch != null && roomId == 1L) {
+                    latch.await(5, TimeUnit.SECONDS);
+                }
+                Thread.sleep(1);
+                booking.setId((long) savedBookings.size() + 1);
+                savedBookings.add(booking);
+                return booking;
+            } finally {
+                writersPerRoom.get(roomId).decrementAndGet();
+            }
+        });
+
+        executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent overlapping requests never double-book a room")
+    void createBooking_UnderLoad_NoDoubleBookings() throws Exception {
+        Random random = new Random(42);
+        List<Future<Boolean>> results = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        int attempts = 400;
+
+        for (int i = 0; i < attempts; i++) {
+            GuestBookingRequestDto dto = request(1 + random.nextInt(rooms.size()), random.nextInt(20), 1 + random.nextInt(4));
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(dto);
+                    return true;
+                } catch (BookingConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int booked = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                booked++;
+            }
+        }
+
+        assertThat(booked).isEqualTo(savedBookings.size()).isLessThan(attempts);
+        assertThat(maxWritersPerRoom.get()).isEqualTo(1);
+        for (int i = 0; i < savedBookings.size(); i++) {
+            for (int j = i + 1; j < savedBookings.size(); j++) {
+                Booking a = savedBookings.get(i);
+                Booking b = savedBookings.get(j);
+                boolean overlap = a.getRoom().getId().equals(b.getRoom().getId())
+                    && a.getCheckInDate().isBefore(b.getCheckOutDate())
+                    && b.getCheckInDate().isBefore(a.getCheckOutDate());
+                assertThat(overlap).as("bookings %s and %s overlap", a, b).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A booking for another room is not held up by a slow booking")
+    void createBooking_DifferentRooms_RunInParallel() throws Exception {
+        blockRoomOneSave = new CountDownLatch(1);
+        Future<Booking> slow = executor.submit(() -> bookingService.createBooking(request(1, 0, 2)));
+
+        Booking other = executor.submit(() -> bookingService.createBooking(request(2, 0, 2)))
+            .get(2, TimeUnit.SECONDS);
+
+        assertThat(slow.isDone()).isFalse();
+        assertThat(other.getRoom().getId()).isEqualTo(2L);
+
+        blockRoomOneSave.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).getRoom().getId()).isEqualTo(1L);
+    }
+
+    private GuestBookingRequestDto request(long roomId, int startOffset, int nights) {
+        GuestBookingRequestDto dto = new GuestBookingRequestDto();
+        dto.setRoomId(roomId);
+        dto.setEmail("load@example.com");
+        dto.setCheckInDate(BASE_DATE.plusDays(startOffset));
+        dto.setCheckOutDate(BASE_DATE.plusDays(startOffset + nights));
+        return dto;
+    }
+}
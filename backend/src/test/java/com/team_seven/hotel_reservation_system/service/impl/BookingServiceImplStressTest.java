@@ -0,0 +1,201 @@
+package com.team_seven.hotel_reservation_system.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
+import com.team_seven.hotel_reservation_system.exception.BookingConflictException;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.Customer;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.repositories.CustomerUpsertRepository;
+import com.team_seven.hotel_reservation_system.repositories.HotelDailyStatsRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeInventoryRepository;
+import com.team_seven.hotel_reservation_system.service.BookingService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Hammers {@link BookingService#createBooking} from many threads through the real transactional
+ * proxy, transaction manager and database, then counts overlapping bookings in the bookings table
+ * and checks that every committed booking reached the dashboard counters.
+ *
+ * Runs on H2, so the repositories whose SQL only Postgres understands (customer upsert, inventory
+ * and dashboard counters) are mocked; the room lock, the overlap check, the insert and the
+ * listeners around the commit are real. The pool is smaller than the number of writers and the
+ * run must finish well inside Hikari's 30s connection timeout, so a listener that takes a second
+ * connection while the booking still holds its first one fails the test instead of stalling it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:booking-stress;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "jwt.secret=c3RyZXNzLXRlc3Qtc2VjcmV0LXN0cmVzcy10ZXN0LXNlY3JldC0xMjM0NTY="
+})
+class BookingServiceImplStressTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.parse("2026-03-01");
+    private static final int ROOMS = 8;
+    private static final int ATTEMPTS = 300;
+
+    private static final String OVERLAPPING_PAIRS_SQL = """
+        SELECT COUNT(*)
+        FROM bookings a
+        JOIN bookings b ON b.room_id = a.room_id AND b.id > a.id
+        WHERE a.check_in_date < b.check_out_date AND b.check_in_date < a.check_out_date
+        """;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private CustomerUpsertRepository customerUpsertRepository;
+
+    @MockitoBean
+    private RoomTypeInventoryRepository inventoryRepository;
+
+    @MockitoBean
+    private HotelDailyStatsRepository statsRepository;
+
+    private final List<Long> roomIds = new ArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        Long customerId = new TransactionTemplate(transactionManager).execute(status -> seed());
+        when(customerUpsertRepository.upsertByEmail(anyString(), any(), any(), any())).thenReturn(customerId);
+        executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        jdbcTemplate.update("DELETE FROM bookings");
+    }
+
+    @Test
+    @Timeout(value = 15, unit = TimeUnit.SECONDS)
+    @DisplayName("Concurrent overlapping requests leave no overlapping rows and every booking reaches the counters")
+    void createBooking_UnderLoad_NoOverlappingRows() throws Exception {
+        Random random = new Random(42);
+        List<Future<Boolean>> results = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            GuestBookingRequestDto dto = request(roomIds.get(random.nextInt(ROOMS)), random.nextInt(20),
+                    1 + random.nextInt(4));
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookingService.createBooking(dto);
+                    return true;
+                } catch (BookingConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int booked = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                booked++;
+            }
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings", Integer.class);
+        Integer overlappingPairs = jdbcTemplate.queryForObject(OVERLAPPING_PAIRS_SQL, Integer.class);
+        assertThat(rows).isEqualTo(booked).isPositive().isLessThan(ATTEMPTS);
+        assertThat(overlappingPairs).isZero();
+
+        ArgumentCaptor<Long> countedBookingIds = ArgumentCaptor.forClass(Long.class);
+        verify(statsRepository, timeout(5_000).times(booked))
+                .addBookingNights(countedBookingIds.capture(), eq(BookingStatus.CONFIRMED.getCode()), eq(1));
+        assertThat(countedBookingIds.getAllValues())
+                .containsExactlyInAnyOrderElementsOf(jdbcTemplate.queryForList("SELECT id FROM bookings", Long.class));
+    }
+
+    private Long seed() {
+        Hotel hotel = new Hotel();
+        hotel.setName("Harbour");
+        hotel.setCity("Vaasa");
+        entityManager.persist(hotel);
+        RoomType type = RoomType.builder()
+                .hotel(hotel)
+                .name("Standard")
+                .pricePerNight(new BigDecimal("100.00"))
+                .capacity(2)
+                .build();
+        entityManager.persist(type);
+        for (int r = 0; r < ROOMS; r++) {
+            Room room = Room.builder()
+                    .roomType(type)
+                    .roomNumber("S-" + r)
+                    .status(RoomStatus.AVAILABLE)
+                    .build();
+            entityManager.persist(room);
+            roomIds.add(room.getId());
+        }
+        Customer customer = new Customer();
+        customer.setEmail("load@example.com");
+        customer.setPassword("{noop}secret");
+        entityManager.persist(customer);
+        return customer.getId();
+    }
+
+    private GuestBookingRequestDto request(long roomId, int startOffset, int nights) {
+        GuestBookingRequestDto dto = new GuestBookingRequestDto();
+        dto.setRoomId(roomId);
+        dto.setEmail("load@example.com");
+        dto.setCheckInDate(BASE_DATE.plusDays(startOffset));
+        dto.setCheckOutDate(BASE_DATE.plusDays(startOffset + nights));
+        dto.setNumberOfGuests(1);
+        return dto;
+    }
+}
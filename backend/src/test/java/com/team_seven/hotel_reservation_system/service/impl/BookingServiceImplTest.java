@@ -3,11 +3,18 @@ package com.team_seven.hotel_reservation_system.service.impl;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.EnumSet;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,16 +23,43 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
 import com.team_seven.hotel_reservation_system.models.Booking;
 import com.team_seven.hotel_reservation_system.models.Customer;
 import com.team_seven.hotel_reservation_system.models.Room;
 import com.team_seven.hotel_reservation_system.models.RoomType;
+import com.team_seven.hotel_reservation_system.dto.BookingKeyDto;
+import com.team_seven.hotel_reservation_system.dto.BookingListCriteria;
+import com.team_seven.hotel_reservation_system.dto.BookingListPageDto;
+import com.team_seven.hotel_reservation_system.dto.BookingHoldDto;
+import com.team_seven.hotel_reservation_system.dto.BookingStatusOutcomeDto;
+import com.team_seven.hotel_reservation_system.dto.BookingStatusRowDto;
+import com.team_seven.hotel_reservation_system.dto.BookingSummaryDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateRequestDto;
+import com.team_seven.hotel_reservation_system.dto.BulkStatusUpdateResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRequestDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingResultDto;
+import com.team_seven.hotel_reservation_system.dto.GroupBookingRoomDto;
 import com.team_seven.hotel_reservation_system.dto.GuestBookingRequestDto;
+import com.team_seven.hotel_reservation_system.exception.BookingConflictException;
+import com.team_seven.hotel_reservation_system.exception.InvalidStatusTransitionException;
+import com.team_seven.hotel_reservation_system.repositories.BookingBatchRepository;
+import com.team_seven.hotel_reservation_system.repositories.BookingListRepository;
 import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
 import com.team_seven.hotel_reservation_system.repositories.CustomerRepository;
 import com.team_seven.hotel_reservation_system.repositories.RoomRepository;
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
+import com.team_seven.hotel_reservation_system.service.CustomerResolver;
+import com.team_seven.hotel_reservation_system.service.RoomLockStripes;
+import com.team_seven.hotel_reservation_system.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test") 
@@ -40,6 +74,24 @@ class BookingServiceImplTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private BookingBatchRepository bookingBatchRepository;
+
+    @Mock
+    private BookingListRepository bookingListRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingHoldService bookingHoldService;
+
+    @Mock
+    private CustomerResolver customerResolver;
+
+    @Spy
+    private RoomLockStripes roomLocks = new RoomLockStripes(16);
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -76,9 +128,9 @@ class BookingServiceImplTest {
     @Test
     @DisplayName("Should create a new Customer AND a new Booking")
     void createBooking_NewCustomer_Success() {
-        when(customerRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
-        when(customerRepository.save(any(Customer.class))).thenReturn(newCustomer);
-        when(roomRepository.findById(2L)).thenReturn(Optional.of(testRoom));
+        when(customerResolver.resolveId(eq("test@example.com"), any(), any(), any())).thenReturn(1L);
+        when(customerRepository.getReferenceById(1L)).thenReturn(newCustomer);
+        when(roomRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(testRoom));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Booking result = bookingService.createBooking(guestDto);
@@ -86,7 +138,203 @@ class BookingServiceImplTest {
         assertThat(result.getTotalPrice()).isEqualByComparingTo(new BigDecimal("500.00"));
         assertThat(result.getCustomer().getId()).isEqualTo(1L);
 
-        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerResolver, times(1)).resolveId(eq("test@example.com"), any(), any(), any());
         verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    @DisplayName("Should book every room of a group with one batch insert and one room update")
+    void createGroupBooking_AllRoomsFree_Success() {
+        Room otherRoom = new Room();
+        otherRoom.setId(3L);
+        otherRoom.setRoomType(testRoom.getRoomType());
+        otherRoom.setStatus(RoomStatus.AVAILABLE);
+        testRoom.setStatus(RoomStatus.AVAILABLE);
+
+        when(roomRepository.findAllByIdInForUpdate(any())).thenReturn(List.of(testRoom, otherRoom));
+        when(bookingRepository.findBookedRoomIds(any(), any(), any())).thenReturn(List.of());
+        when(customerResolver.resolveId(eq("existing@example.com"), any(), any(), any())).thenReturn(42L);
+        when(customerRepository.getReferenceById(42L)).thenReturn(existingCustomer);
+        doAnswer(invocation -> {
+            List<Booking> bookings = invocation.getArgument(0);
+            for (int i = 0; i < bookings.size(); i++) {
+                bookings.get(i).setId(100L + i);
+            }
+            return null;
+        }).when(bookingBatchRepository).insertAll(anyList());
+
+        GroupBookingResultDto result = bookingService.createGroupBooking(groupRequest());
+
+        assertThat(result.getBookingIds()).containsExactly(100L, 101L);
+        assertThat(result.getCustomerId()).isEqualTo(42L);
+        assertThat(result.getTotalPrice()).isEqualByComparingTo(new BigDecimal("1000.00"));
+        verify(bookingBatchRepository, times(1)).insertAll(anyList());
+        verify(roomRepository, never()).save(any(Room.class));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("Should reject the whole group when one room is already booked")
+    void createGroupBooking_OneRoomTaken_NothingWritten() {
+        Room otherRoom = new Room();
+        otherRoom.setId(3L);
+        otherRoom.setRoomType(testRoom.getRoomType());
+
+        when(roomRepository.findAllByIdInForUpdate(any())).thenReturn(List.of(testRoom, otherRoom));
+        when(bookingRepository.findBookedRoomIds(any(), any(), any())).thenReturn(List.of(3L));
+
+        assertThatThrownBy(() -> bookingService.createGroupBooking(groupRequest()))
+            .isInstanceOf(BookingConflictException.class);
+
+        verify(bookingBatchRepository, never()).insertAll(anyList());
+        verify(customerRepository, never()).save(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a booking for nights another guest holds")
+    void createBooking_RoomHeld_Conflict() {
+        when(roomRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(testRoom));
+        when(bookingHoldService.isHeld(2L, guestDto.getCheckInDate(), guestDto.getCheckOutDate())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(guestDto))
+            .isInstanceOf(BookingConflictException.class);
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("Should turn a hold into a booking after re-checking the room's bookings")
+    void confirmHold_ActiveHold_CreatesBooking() {
+        guestDto.setEmail("existing@example.com");
+        BookingHoldService.Hold hold = mock(BookingHoldService.Hold.class);
+        when(hold.getRequest()).thenReturn(guestDto);
+        when(bookingHoldService.getHold("hold-1", "token-1")).thenReturn(BookingHoldDto.builder().holdId("hold-1").roomId(2L).build());
+        when(bookingHoldService.claim("hold-1", "token-1")).thenReturn(hold);
+        when(roomRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(testRoom));
+        when(customerResolver.resolveId(eq("existing@example.com"), any(), any(), any())).thenReturn(42L);
+        when(customerRepository.getReferenceById(42L)).thenReturn(existingCustomer);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Booking result = bookingService.confirmHold("hold-1", "token-1");
+
+        assertThat(result.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(result.getTotalPrice()).isEqualByComparingTo(new BigDecimal("500.00"));
+        verify(bookingRepository).existsOverlappingBooking(eq(2L), eq(guestDto.getCheckInDate()),
+            eq(guestDto.getCheckOutDate()), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should reject a hold whose nights were booked on another instance")
+    void confirmHold_BookedElsewhere_Conflict() {
+        BookingHoldService.Hold hold = mock(BookingHoldService.Hold.class);
+        when(hold.getRequest()).thenReturn(guestDto);
+        when(bookingHoldService.getHold("hold-1", "token-1")).thenReturn(BookingHoldDto.builder().holdId("hold-1").roomId(2L).build());
+        when(bookingHoldService.claim("hold-1", "token-1")).thenReturn(hold);
+        when(roomRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(testRoom));
+        when(bookingRepository.existsOverlappingBooking(eq(2L), any(), any(), anyCollection())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.confirmHold("hold-1", "token-1"))
+            .isInstanceOf(BookingConflictException.class);
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("Should check out many bookings with one booking update and one room update")
+    void updateStatuses_ByIds_SetBasedWithPerIdOutcomes() {
+        LocalDate checkIn = guestDto.getCheckInDate();
+        LocalDate checkOut = guestDto.getCheckOutDate();
+        when(bookingBatchRepository.lockStatusRows(anyCollection())).thenReturn(List.of(
+                new BookingStatusRowDto(10L, 2L, 1L, "Helsinki", checkIn, checkOut, BookingStatus.CHECKED_IN),
+                new BookingStatusRowDto(11L, 3L, 1L, "Helsinki", checkIn, checkOut, BookingStatus.CHECKED_OUT),
+                new BookingStatusRowDto(12L, 4L, 1L, "Helsinki", checkIn, checkOut, BookingStatus.CHECKED_IN)));
+
+        BulkStatusUpdateRequestDto request = new BulkStatusUpdateRequestDto();
+        request.setStatus(BookingStatus.CHECKED_OUT);
+        request.setBookingIds(List.of(12L, 10L, 11L, 13L, 10L));
+        BulkStatusUpdateResultDto result = bookingService.updateStatuses(request);
+
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getOutcomes()).extracting(BookingStatusOutcomeDto::getBookingId)
+                .containsExactly(10L, 11L, 12L, 13L);
+        assertThat(result.getOutcomes()).extracting(BookingStatusOutcomeDto::getOutcome)
+                .containsExactly("UPDATED", "UNCHANGED", "UPDATED", "NOT_FOUND");
+        verify(bookingRepository).updateStatusByIdIn(List.of(10L, 12L), BookingStatus.CHECKED_OUT);
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(roomRepository, never()).save(any(Room.class));
+    }
+
+    @Test
+    @DisplayName("Should leave reactivations to the single-booking path")
+    void updateStatuses_Reactivation_Rejected() {
+        when(bookingBatchRepository.lockStatusRows(anyCollection())).thenReturn(List.of(
+                new BookingStatusRowDto(10L, 2L, 1L, "Helsinki", guestDto.getCheckInDate(),
+                        guestDto.getCheckOutDate(), BookingStatus.CANCELLED)));
+
+        BulkStatusUpdateRequestDto request = new BulkStatusUpdateRequestDto();
+        request.setStatus(BookingStatus.CONFIRMED);
+        request.setBookingIds(List.of(10L));
+        BulkStatusUpdateResultDto result = bookingService.updateStatuses(request);
+
+        assertThat(result.getUpdated()).isZero();
+        assertThat(result.getOutcomes()).extracting(BookingStatusOutcomeDto::getOutcome).containsExactly("REJECTED");
+        verify(bookingRepository, never()).updateStatusByIdIn(anyCollection(), any(BookingStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse a status change the booking state machine does not allow")
+    void updateStatus_InvalidTransition_Rejected() {
+        Booking booking = new Booking();
+        booking.setId(7L);
+        booking.setRoom(testRoom);
+        booking.setStatus(BookingStatus.CHECKED_OUT);
+        when(bookingRepository.findById(7L)).thenReturn(Optional.of(booking));
+
+        assertThatThrownBy(() -> bookingService.updateStatus(7L, "checked_in"))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    @DisplayName("Should filter the admin list with an exact status IN-list")
+    void getBookings_StatusList_ExactMatch() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookingRepository.findSummariesByStatusIn(anyCollection(), eq(pageable))).thenReturn(Page.empty());
+
+        bookingService.getBookings("confirmed, CHECKED_IN", pageable);
+
+        verify(bookingRepository).findSummariesByStatusIn(
+                EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN), pageable);
+    }
+
+    @Test
+    @DisplayName("Should page the admin list by keyset without counting unless asked")
+    void getBookingsPage_KeysetWithoutCount() {
+        Timestamp newest = Timestamp.from(Instant.parse("2026-03-02T10:00:00Z"));
+        Timestamp older = Timestamp.from(Instant.parse("2026-03-01T10:00:00Z"));
+        when(bookingListRepository.findPageKeys(any(BookingListCriteria.class), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(new BookingKeyDto(12L, newest), new BookingKeyDto(11L, older),
+                        new BookingKeyDto(10L, older)));
+        BookingSummaryDto first = BookingSummaryDto.from(Booking.builder().id(12L).build());
+        BookingSummaryDto second = BookingSummaryDto.from(Booking.builder().id(11L).build());
+        when(bookingRepository.findSummariesByIdIn(List.of(12L, 11L))).thenReturn(List.of(second, first));
+
+        BookingListPageDto page = bookingService.getBookingsPage(BookingListCriteria.builder().size(2).build());
+
+        assertThat(page.getItems()).extracting(BookingSummaryDto::getId).containsExactly(12L, 11L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getTotal()).isNull();
+        assertThat(KeysetCursor.decode(page.getNextCursor(), 2)).containsExactly("2026-03-01T10:00:00Z", "11");
+        verify(bookingListRepository, never()).count(any());
+    }
+
+    private GroupBookingRequestDto groupRequest() {
+        GroupBookingRequestDto dto = new GroupBookingRequestDto();
+        dto.setEmail("existing@example.com");
+        dto.setCheckInDate(guestDto.getCheckInDate());
+        dto.setCheckOutDate(guestDto.getCheckOutDate());
+        dto.setRooms(List.of(new GroupBookingRoomDto(3L, 2), new GroupBookingRoomDto(2L, 1)));
+        return dto;
     }
 }
@@ -0,0 +1,229 @@
+package com.team_seven.hotel_reservation_system.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Limit;
+
+import com.team_seven.hotel_reservation_system.dto.RoomSearchCriteria;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchPageDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchResultDto;
+import com.team_seven.hotel_reservation_system.dto.RoomSearchSort;
+import com.team_seven.hotel_reservation_system.repositories.BookingRepository;
+import com.team_seven.hotel_reservation_system.repositories.RoomTypeRepository;
+import com.team_seven.hotel_reservation_system.service.BookingHoldService;
+import com.team_seven.hotel_reservation_system.service.RoomAvailabilityIndex;
+import com.team_seven.hotel_reservation_system.service.RoomSearchCache;
+import com.team_seven.hotel_reservation_system.util.KeysetCursor;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PublicRoomServiceImplTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.parse("2026-06-01");
+    private static final LocalDate CHECK_OUT = LocalDate.parse("2026-06-03");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    @Mock
+    private RoomTypeRepository roomTypeRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private RoomAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private RoomSearchCache searchCache;
+
+    @Mock
+    private BookingHoldService bookingHoldService;
+
+    @InjectMocks
+    private PublicRoomServiceImpl publicRoomService;
+
+    // Rooms the index reports as taken for the searched stay.
+    private final Set<Long> bookedRoomIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        when(searchCache.getOrLoad(any(), any(), any(), anyInt(), any(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+        when(availabilityIndex.isLoaded()).thenReturn(true);
+        when(availabilityIndex.isAvailable(anyLong(), eq(CHECK_IN), eq(CHECK_OUT)))
+            .thenAnswer(invocation -> !bookedRoomIds.contains(invocation.<Long>getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Cursors carry the last row's price and room id, and malformed ones are rejected")
+    void cursor_RoundTripsAndRejectsGarbage() {
+        String cursor = KeysetCursor.encode("120.50", 42L);
+
+        assertThat(KeysetCursor.decode(cursor, 2)).containsExactly("120.50", "42");
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!", 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Rooms with the same price are ordered by room id, with no row repeated or skipped across pages")
+    void searchPage_PriceTiesBrokenByRoomId() {
+        stubCatalog(List.of(room(5L, "100.00"), room(2L, "100.00"), room(9L, "100.00"), room(1L, "80.00"), room(3L, "120.00")));
+
+        RoomSearchPageDto first = search(RoomSearchSort.PRICE_ASC, null, null, null, 2);
+        RoomSearchPageDto second = search(RoomSearchSort.PRICE_ASC, null, null, first.getNextCursor(), 2);
+        RoomSearchPageDto third = search(RoomSearchSort.PRICE_ASC, null, null, second.getNextCursor(), 2);
+
+        assertThat(roomIds(first)).containsExactly(1L, 2L);
+        assertThat(KeysetCursor.decode(first.getNextCursor(), 2)).containsExactly("100.00", "2");
+        assertThat(roomIds(second)).containsExactly(5L, 9L);
+        assertThat(roomIds(third)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("PRICE_DESC starts above the highest allowed price and walks down, ties by descending room id")
+    void searchPage_PriceDescFromSentinel() {
+        stubCatalog(List.of(room(1L, "80.00"), room(2L, "100.00"), room(4L, "100.00"), room(3L, "120.00")));
+
+        RoomSearchPageDto page = search(RoomSearchSort.PRICE_DESC, null, null, null, 3);
+
+        assertThat(roomIds(page)).containsExactly(3L, 4L, 2L);
+        assertThat(page.isHasMore()).isTrue();
+        verify(roomTypeRepository).findSearchCandidatesByPriceDesc(eq("Vaasa"), eq(2), eq(BigDecimal.ZERO), eq(MAX_PRICE),
+            eq(MAX_PRICE.add(BigDecimal.ONE)), eq(Long.MAX_VALUE), any(Limit.class));
+        verify(roomTypeRepository, never()).findSearchCandidatesByPriceAsc(any(), anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Price bounds are passed to the query, and default to the whole price range")
+    void searchPage_PriceBounds() {
+        stubCatalog(List.of(room(1L, "80.00"), room(2L, "100.00"), room(3L, "120.00"), room(4L, "150.00")));
+
+        RoomSearchPageDto bounded = search(RoomSearchSort.PRICE_ASC, new BigDecimal("90"), new BigDecimal("120.00"), null, 10);
+        RoomSearchPageDto unbounded = search(RoomSearchSort.PRICE_ASC, null, null, null, 10);
+
+        assertThat(roomIds(bounded)).containsExactly(2L, 3L);
+        assertThat(roomIds(unbounded)).containsExactly(1L, 2L, 3L, 4L);
+        verify(roomTypeRepository).findSearchCandidatesByPriceAsc(eq("Vaasa"), eq(2), eq(new BigDecimal("90")),
+            eq(new BigDecimal("120.00")), eq(BigDecimal.valueOf(-1)), eq(0L), any(Limit.class));
+        verify(roomTypeRepository).findSearchCandidatesByPriceAsc(eq("Vaasa"), eq(2), eq(BigDecimal.ZERO),
+            eq(MAX_PRICE), eq(BigDecimal.valueOf(-1)), eq(0L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Booked rooms are skipped and the next batch starts after the last scanned row, booked or not")
+    void searchPage_SkipsBookedRoomsAcrossBatches() {
+        List<RoomSearchResultDto> rooms = new ArrayList<>();
+        for (long id = 1; id <= 120; id++) {
+            rooms.add(room(id, "100.00"));
+            if (id <= 70) {
+                bookedRoomIds.add(id);
+            }
+        }
+        stubCatalog(rooms);
+
+        RoomSearchPageDto page = search(RoomSearchSort.PRICE_ASC, null, null, null, 5);
+
+        assertThat(roomIds(page)).containsExactly(71L, 72L, 73L, 74L, 75L);
+        assertThat(page.isHasMore()).isTrue();
+        ArgumentCaptor<Long> afterRoomIds = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Limit> limits = ArgumentCaptor.forClass(Limit.class);
+        verify(roomTypeRepository, times(2)).findSearchCandidatesByPriceAsc(any(), anyInt(), any(), any(), any(),
+            afterRoomIds.capture(), limits.capture());
+        assertThat(afterRoomIds.getAllValues()).containsExactly(0L, 50L);
+        assertThat(limits.getAllValues()).extracting(Limit::max).containsOnly(50);
+    }
+
+    @Test
+    @DisplayName("The last page has no next cursor, even when it is exactly full")
+    void searchPage_LastPageHasNoCursor() {
+        stubCatalog(List.of(room(1L, "80.00"), room(2L, "100.00"), room(3L, "120.00")));
+
+        RoomSearchPageDto exact = search(RoomSearchSort.PRICE_ASC, null, null, null, 3);
+        RoomSearchPageDto first = search(RoomSearchSort.PRICE_ASC, null, null, null, 2);
+        RoomSearchPageDto last = search(RoomSearchSort.PRICE_ASC, null, null, first.getNextCursor(), 2);
+
+        assertThat(exact.isHasMore()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(roomIds(last)).containsExactly(3L);
+        assertThat(last.isHasMore()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    private RoomSearchPageDto search(RoomSearchSort sort, BigDecimal minPrice, BigDecimal maxPrice, String cursor, int size) {
+        return publicRoomService.findAvailableRoomsPage(RoomSearchCriteria.builder()
+            .city("Vaasa")
+            .checkInDate(CHECK_IN)
+            .checkOutDate(CHECK_OUT)
+            .guestCapacity(2)
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .sort(sort)
+            .cursor(cursor)
+            .size(size)
+            .build());
+    }
+
+    // Answers both keyset queries from an in-memory catalog the way the JPQL does.
+    private void stubCatalog(List<RoomSearchResultDto> rooms) {
+        Comparator<RoomSearchResultDto> ascending = Comparator.comparing(RoomSearchResultDto::getPricePerNight)
+            .thenComparing(RoomSearchResultDto::getRoomId);
+        when(roomTypeRepository.findSearchCandidatesByPriceAsc(any(), anyInt(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                BigDecimal afterPrice = invocation.getArgument(4);
+                Long afterRoomId = invocation.getArgument(5);
+                return rooms.stream()
+                    .filter(room -> inBounds(room, invocation.getArgument(2), invocation.getArgument(3)))
+                    .filter(room -> room.getPricePerNight().compareTo(afterPrice) > 0
+                        || (room.getPricePerNight().compareTo(afterPrice) == 0 && room.getRoomId() > afterRoomId))
+                    .sorted(ascending)
+                    .limit(invocation.<Limit>getArgument(6).max())
+                    .toList();
+            });
+        when(roomTypeRepository.findSearchCandidatesByPriceDesc(any(), anyInt(), any(), any(), any(), any(), any()))
+            .thenAnswer(invocation -> {
+                BigDecimal beforePrice = invocation.getArgument(4);
+                Long beforeRoomId = invocation.getArgument(5);
+                return rooms.stream()
+                    .filter(room -> inBounds(room, invocation.getArgument(2), invocation.getArgument(3)))
+                    .filter(room -> room.getPricePerNight().compareTo(beforePrice) < 0
+                        || (room.getPricePerNight().compareTo(beforePrice) == 0 && room.getRoomId() < beforeRoomId))
+                    .sorted(ascending.reversed())
+                    .limit(invocation.<Limit>getArgument(6).max())
+                    .toList();
+            });
+    }
+
+    private static boolean inBounds(RoomSearchResultDto room, BigDecimal minPrice, BigDecimal maxPrice) {
+        return room.getPricePerNight().compareTo(minPrice) >= 0 && room.getPricePerNight().compareTo(maxPrice) <= 0;
+    }
+
+    private static RoomSearchResultDto room(Long roomId, String price) {
+        return new RoomSearchResultDto(roomId, "Harbour", "Vaasa", "Standard", null, new BigDecimal(price), 2);
+    }
+
+    private static List<Long> roomIds(RoomSearchPageDto page) {
+        return page.getItems().stream().map(RoomSearchResultDto::getRoomId).toList();
+    }
+}
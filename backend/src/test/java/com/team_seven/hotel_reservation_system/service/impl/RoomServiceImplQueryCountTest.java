@@ -0,0 +1,140 @@
+package com.team_seven.hotel_reservation_system.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import com.team_seven.hotel_reservation_system.dto.RoomDto;
+import com.team_seven.hotel_reservation_system.models.Booking;
+import com.team_seven.hotel_reservation_system.models.BookingStatus;
+import com.team_seven.hotel_reservation_system.models.Customer;
+import com.team_seven.hotel_reservation_system.models.Hotel;
+import com.team_seven.hotel_reservation_system.models.Room;
+import com.team_seven.hotel_reservation_system.models.RoomOccupancy;
+import com.team_seven.hotel_reservation_system.models.RoomStatus;
+import com.team_seven.hotel_reservation_system.models.RoomType;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(RoomServiceImpl.class)
+class RoomServiceImplQueryCountTest {
+
+    private static final LocalDate NIGHT = LocalDate.parse("2026-03-10");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomServiceImpl roomService;
+
+    private Statistics statistics;
+    private Hotel seaside;
+    private RoomType suite;
+    private Room bookedRoom;
+
+    @BeforeEach
+    void setUp() {
+        Hotel city = hotel("City");
+        seaside = hotel("Seaside");
+        RoomType standard = roomType(city, "Standard");
+        suite = roomType(seaside, "Suite");
+        for (int i = 0; i < 20; i++) {
+            room(i % 2 == 0 ? standard : suite, "R" + i, i % 5 == 0 ? RoomStatus.MAINTENANCE : RoomStatus.AVAILABLE);
+        }
+        bookedRoom = room(suite, "B1", RoomStatus.AVAILABLE);
+        Customer customer = new Customer();
+        customer.setEmail("guest@example.com");
+        entityManager.persist(customer);
+        entityManager.persist(Booking.builder()
+                .customer(customer)
+                .room(bookedRoom)
+                .checkInDate(NIGHT)
+                .checkOutDate(NIGHT.plusDays(2))
+                .numberOfGuests(1)
+                .totalPrice(new BigDecimal("200.00"))
+                .status(BookingStatus.CONFIRMED)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("getAll loads every room with its type and hotel in two statements, however many rooms there are")
+    void getAll_RunsConstantNumberOfStatements() {
+        List<RoomDto> rooms = roomService.getAll(NIGHT);
+
+        assertThat(rooms).hasSize(21);
+        assertThat(rooms).allSatisfy(room -> assertThat(room.getHotelName()).isNotNull());
+        assertThat(rooms).filteredOn(room -> room.getId().equals(bookedRoom.getId()))
+                .singleElement()
+                .satisfies(room -> assertThat(room.getOccupancy()).isEqualTo(RoomOccupancy.RESERVED));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A filtered page costs one select, one count and one occupancy lookup")
+    void getPage_FiltersAndRunsConstantNumberOfStatements() {
+        Page<RoomDto> page = roomService.getPage(seaside.getId(), suite.getId(), RoomStatus.AVAILABLE, NIGHT, 0, 5);
+
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(room -> {
+            assertThat(room.getHotelName()).isEqualTo("Seaside");
+            assertThat(room.getRoomTypeName()).isEqualTo("Suite");
+            assertThat(room.getStatus()).isEqualTo(RoomStatus.AVAILABLE);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private Hotel hotel(String name) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        hotel.setCity("Vaasa");
+        return entityManager.persist(hotel);
+    }
+
+    private RoomType roomType(Hotel hotel, String name) {
+        return entityManager.persist(RoomType.builder()
+                .hotel(hotel)
+                .name(name)
+                .pricePerNight(new BigDecimal("100.00"))
+                .capacity(2)
+                .build());
+    }
+
+    private Room room(RoomType roomType, String roomNumber, RoomStatus status) {
+        return entityManager.persist(Room.builder()
+                .roomType(roomType)
+                .roomNumber(roomNumber)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,67 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("Timeouts fire in deadline order, never early, across wheel levels")
+    void advanceTo_FiresDueTimeoutsInOrder() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 0);
+        wheel.schedule("soon", 2_500);
+        wheel.schedule("level-1", 20_000);
+        wheel.schedule("level-2", 200_000);
+        wheel.schedule("same-tick", 2_100);
+
+        assertThat(wheel.advanceTo(2_999)).isEmpty();
+        assertThat(wheel.advanceTo(3_000)).containsExactly("soon", "same-tick");
+        assertThat(wheel.advanceTo(19_999)).isEmpty();
+        assertThat(wheel.advanceTo(20_000)).containsExactly("level-1");
+        assertThat(wheel.advanceTo(199_999)).isEmpty();
+        assertThat(wheel.advanceTo(200_000)).containsExactly("level-2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cancelled timeouts never fire and overdue ones fire on the next advance")
+    void cancelAndOverdue() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 4, 10_000);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 50_000);
+        wheel.schedule("overdue", 5_000);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.advanceTo(10_000)).containsExactly("overdue");
+        assertThat(wheel.advanceTo(100_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Every one of many random timeouts fires exactly once, at or after its deadline")
+    void advanceTo_ManyTimeouts() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 16, 0);
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1 + random.nextInt(1_000_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now < 1_000_000 + 3_700; now += 3_700) {
+            for (Long deadline : wheel.advanceTo(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(now - deadline).isLessThan(3_700 + 100);
+                fired.add(deadline);
+            }
+        }
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(deadlines);
+    }
+}
@@ -0,0 +1,143 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Quarter report over a synthetic year of bookings, naive against partitioned. Not part of the
+ * normal build; run with {@code mvn test -Pbenchmark}. Size with {@code -Dbenchmark.bookings=N}.
+ */
+@Tag("benchmark")
+class ParallelStayAggregatorBenchmark {
+
+    private static final LocalDate YEAR_START = LocalDate.parse("2026-01-01");
+    private static final LocalDate QUARTER_START = LocalDate.parse("2026-04-01");
+    private static final LocalDate QUARTER_END = LocalDate.parse("2026-07-01");
+    private static final int ROOM_TYPES = 400;
+    private static final int MAX_NIGHTS = 14;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void quarterReport() {
+        int bookings = Integer.getInteger("benchmark.bookings", 5_000_000);
+        Dataset data = Dataset.generate(bookings, new Random(7));
+        long[] keys = new long[ROOM_TYPES];
+        for (int i = 0; i < ROOM_TYPES; i++) {
+            keys[i] = 1000 + i * 3L;
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ParallelStayAggregator aggregator = new ParallelStayAggregator(pool, 7);
+
+        System.out.println(">>> Benchmark: " + bookings + " bookings, " + ROOM_TYPES + " room types, "
+                + parallelism + " threads, " + aggregator.partitionsFor(QUARTER_START, QUARTER_END) + " partitions");
+        Map<Long, BigDecimal> naive = null;
+        ParallelStayAggregator.Totals partitioned = null;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            naive = naive(data);
+            long naiveMillis = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            partitioned = aggregator.aggregate(keys, QUARTER_START, QUARTER_END, data::forEachStay);
+            long partitionedMillis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(">>> Round " + round + ": naive " + naiveMillis + " ms, partitioned "
+                    + partitionedMillis + " ms");
+        }
+        pool.shutdown();
+
+        for (long key : keys) {
+            BigDecimal expected = naive.getOrDefault(key, BigDecimal.ZERO).setScale(0, RoundingMode.HALF_UP);
+            // Each night's share differs by under one cent between the two ways of splitting.
+            assertThat(partitioned.revenueMinor(key)).isCloseTo(expected.longValue(), within(partitioned.roomNights(key)));
+        }
+    }
+
+    // The straightforward version: every booking, every night, BigDecimal per night, one thread.
+    private static Map<Long, BigDecimal> naive(Dataset data) {
+        Map<Long, BigDecimal> revenueByKey = new HashMap<>();
+        long from = QUARTER_START.toEpochDay();
+        long to = QUARTER_END.toEpochDay();
+        for (int i = 0; i < data.size; i++) {
+            BigDecimal total = BigDecimal.valueOf(data.totalMinor[i]);
+            long nights = data.checkOut[i] - data.checkIn[i];
+            BigDecimal perNight = total.divide(BigDecimal.valueOf(nights), 4, RoundingMode.HALF_UP);
+            for (long night = data.checkIn[i]; night < data.checkOut[i]; night++) {
+                if (night >= from && night < to) {
+                    revenueByKey.merge(data.key[i], perNight, BigDecimal::add);
+                }
+            }
+        }
+        return revenueByKey;
+    }
+
+    // Bookings sorted by check-in, read per partition the way an index range scan would.
+    private static final class Dataset {
+        private final int size;
+        private final long[] key;
+        private final long[] checkIn;
+        private final long[] checkOut;
+        private final long[] totalMinor;
+
+        private Dataset(int size) {
+            this.size = size;
+            this.key = new long[size];
+            this.checkIn = new long[size];
+            this.checkOut = new long[size];
+            this.totalMinor = new long[size];
+        }
+
+        static Dataset generate(int size, Random random) {
+            long[] checkIns = new long[size];
+            for (int i = 0; i < size; i++) {
+                checkIns[i] = YEAR_START.toEpochDay() + random.nextInt(365);
+            }
+            Arrays.sort(checkIns);
+            Dataset data = new Dataset(size);
+            for (int i = 0; i < size; i++) {
+                int nights = 1 + random.nextInt(MAX_NIGHTS);
+                data.key[i] = 1000 + random.nextInt(ROOM_TYPES) * 3L;
+                data.checkIn[i] = checkIns[i];
+                data.checkOut[i] = checkIns[i] + nights;
+                data.totalMinor[i] = nights * (6_000L + random.nextInt(30_000));
+            }
+            return data;
+        }
+
+        void forEachStay(LocalDate from, LocalDate toExclusive, ParallelStayAggregator.StayConsumer consumer) {
+            long fromDay = from.toEpochDay();
+            long toDay = toExclusive.toEpochDay();
+            for (int i = firstCheckInAtOrAfter(fromDay - MAX_NIGHTS); i < size && checkIn[i] < toDay; i++) {
+                if (checkOut[i] > fromDay) {
+                    consumer.accept(key[i], checkIn[i], checkOut[i], totalMinor[i]);
+                }
+            }
+        }
+
+        private int firstCheckInAtOrAfter(long day) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (checkIn[middle] < day) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.team_seven.hotel_reservation_system.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelStayAggregatorTest {
+
+    private static final LocalDate FROM = LocalDate.parse("2026-01-01");
+
+    @Test
+    @DisplayName("A stay crossing partitions is counted once and its cents add up exactly")
+    void aggregate_SplitsStayAcrossPartitions() {
+        ParallelStayAggregator aggregator = new ParallelStayAggregator(ForkJoinPool.commonPool(), 2);
+        long checkIn = FROM.toEpochDay() + 1;
+
+        // 3 nights for 100.00: 33.34 + 33.33 + 33.33, nights split over three partitions.
+        ParallelStayAggregator.Totals totals = aggregator.aggregate(new long[] {9, 4}, FROM, FROM.plusDays(6),
+                (from, to, consumer) -> {
+                    if (checkIn < to.toEpochDay() && checkIn + 3 > from.toEpochDay()) {
+                        consumer.accept(4, checkIn, checkIn + 3, 10_000);
+                    }
+                    consumer.accept(7, checkIn, checkIn + 1, 5_000);
+                });
+
+        assertThat(totals.roomNights(4)).isEqualTo(3);
+        assertThat(totals.revenueMinor(4)).isEqualTo(10_000);
+        assertThat(totals.roomNights(7)).isZero();
+        assertThat(totals.roomNights(9)).isZero();
+        assertThat(aggregator.partitionsFor(FROM, FROM.plusDays(6))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Parallel partitioned totals match a single pass over every night")
+    void aggregate_MatchesSequentialSum() {
+        Random random = new Random(42);
+        int stays = 5_000;
+        long[] keys = {1, 2, 3, 5, 8};
+        long[] stayKeys = new long[stays];
+        long[] checkIns = new long[stays];
+        long[] checkOuts = new long[stays];
+        long[] totalsMinor = new long[stays];
+        for (int i = 0; i < stays; i++) {
+            stayKeys[i] = keys[random.nextInt(keys.length)];
+            checkIns[i] = FROM.toEpochDay() - 10 + random.nextInt(120);
+            checkOuts[i] = checkIns[i] + 1 + random.nextInt(14);
+            totalsMinor[i] = 5_000 + random.nextInt(100_000);
+        }
+        LocalDate to = FROM.plusDays(90);
+
+        long[] expectedNights = new long[9];
+        long[] expectedMinor = new long[9];
+        for (int i = 0; i < stays; i++) {
+            long nights = checkOuts[i] - checkIns[i];
+            for (long night = checkIns[i]; night < checkOuts[i]; night++) {
+                if (night >= FROM.toEpochDay() && night < to.toEpochDay()) {
+                    int key = (int) stayKeys[i];
+                    expectedNights[key]++;
+                    expectedMinor[key] += totalsMinor[i] / nights + (night - checkIns[i] < totalsMinor[i] % nights ? 1 : 0);
+                }
+            }
+        }
+
+        ParallelStayAggregator aggregator = new ParallelStayAggregator(new ForkJoinPool(4), 7);
+        ParallelStayAggregator.Totals totals = aggregator.aggregate(keys, FROM, to, (from, until, consumer) -> {
+            for (int i = 0; i < stays; i++) {
+                if (checkIns[i] < until.toEpochDay() && checkOuts[i] > from.toEpochDay()) {
+                    consumer.accept(stayKeys[i], checkIns[i], checkOuts[i], totalsMinor[i]);
+                }
+            }
+        });
+
+        for (long key : keys) {
+            assertThat(totals.roomNights(key)).isEqualTo(expectedNights[(int) key]);
+            assertThat(totals.revenueMinor(key)).isEqualTo(expectedMinor[(int) key]);
+        }
+    }
+}
@@ -160,8 +160,6 @@ export default function EditRoomPage() {
   const getStatusColor = (status: string) => {
     const colors = {
       Available: "bg-emerald-100 text-emerald-700 border-emerald-200",
-      Booked: "bg-amber-100 text-amber-700 border-amber-200",
-      Occupied: "bg-blue-100 text-blue-700 border-blue-200",
       Maintenance: "bg-red-100 text-red-700 border-red-200",
     };
     return colors[status as keyof typeof colors] || colors.Available;
@@ -314,8 +312,6 @@ export default function EditRoomPage() {
                       className="w-full px-4 py-3.5 rounded-xl border-2 border-gray-200 focus:ring-4 focus:ring-indigo-100 focus:border-indigo-500 outline-none bg-white transition-all hover:border-gray-300"
                     >
                       <option value="Available">Available</option>
-                      <option value="Booked">Booked</option>
-                      <option value="Occupied">Occupied</option>
                       <option value="Maintenance">Maintenance</option>
                     </select>
                   </div>
@@ -1,7 +1,7 @@
 "use client";
 import { useState, useEffect } from "react";
 import { useRouter } from "next/navigation";
-import { createRoom, fetchAllHotels, fetchAllRoomTypes } from "@/lib/actions";
+import { createRoom, fetchAllHotels, fetchRoomTypeOptions } from "@/lib/actions";
 import { useAuthStore } from "@/lib/auth";
 import toast from "react-hot-toast";
 import { Loader2, ArrowLeft, Plus, AlertTriangle } from "lucide-react";
@@ -37,7 +37,7 @@ export default function AddRoomPage() {
     imageUrl: "",
   });
 
-  const statusOptions = ["Available", "Occupied", "Maintenance", "Booked"];
+  const statusOptions = ["Available", "Maintenance"];
 
   const filteredRoomTypes = allRoomTypes.filter(
     (type) => type.hotelName === form.hotelName
@@ -54,7 +54,7 @@ export default function AddRoomPage() {
       try {
         const [hotels, types] = await Promise.all([
           fetchAllHotels(),
-          fetchAllRoomTypes(token),
+          fetchRoomTypeOptions(token),
         ]);
 
         setAvailableHotels(hotels);
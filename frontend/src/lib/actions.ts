@@ -30,6 +30,13 @@ export interface RoomType {
   hotelName: string;
 }
 
+export interface RoomTypeOption {
+  id: number;
+  name: string;
+  hotelId: number;
+  hotelName: string;
+}
+
 export interface BookingFormData {
   firstName: string;
   lastName: string;
@@ -293,6 +300,42 @@ export async function fetchAllRoomTypes(token?: string): Promise<RoomType[]> {
   }
 }
 
+// Id and name only, for dropdowns; use fetchAllRoomTypes when the full details are needed.
+export async function fetchRoomTypeOptions(
+  token?: string,
+  hotelId?: number
+): Promise<RoomTypeOption[]> {
+  const headers: HeadersInit = {
+    "Content-Type": "application/json",
+  };
+
+  if (token) {
+    headers["Authorization"] = `Bearer ${token}`;
+  }
+
+  const query = new URLSearchParams();
+  if (hotelId) query.append("hotelId", String(hotelId));
+
+  try {
+    const res = await fetch(
+      `${backendUrl}/room-types/options?${query.toString()}`,
+      {
+        cache: "no-store",
+        headers: headers,
+      }
+    );
+
+    if (!res.ok) {
+      throw new Error(`Failed to fetch room type options: ${res.status}`);
+    }
+
+    return await res.json();
+  } catch (error) {
+    console.error("Failed to fetch room type options:", error);
+    return [];
+  }
+}
+
 export async function fetchAllHotels(): Promise<Hotel[]> {
   try {
     const res = await fetch(`${backendUrl}/hotels`, { cache: "no-store" });